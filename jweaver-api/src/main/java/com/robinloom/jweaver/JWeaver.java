@@ -16,7 +16,13 @@
  */
 package com.robinloom.jweaver;
 
+import com.robinloom.jweaver.ast.ASTOptions;
+import com.robinloom.jweaver.binary.BinaryEncoder;
 import com.robinloom.jweaver.dictionary.Dictionary;
+import com.robinloom.jweaver.lang.Immutability;
+
+import java.io.IOException;
+import java.io.OutputStream;
 
 /**
  * Central entry point of the JWeaver API.
@@ -44,6 +50,8 @@ public final class JWeaver {
 
     private static Mode DEFAULT_MODE = Mode.INLINE;
 
+    private static volatile RenderCache renderCache;
+
     private JWeaver() {}
 
     /**
@@ -65,10 +73,129 @@ public final class JWeaver {
      * @return a human-readable string representation of the given object
      */
     public static String weave(Object object, Mode mode) {
+        RenderCache cache = renderCache;
+        if (cache == null || object == null || mode == Mode.DIFF || !Immutability.isImmutable(object.getClass())) {
+            return render(object, mode);
+        }
+
+        int version = Dictionary.getVersion();
+        String rendered = cache.get(object, mode, version);
+        if (rendered == null) {
+            rendered = render(object, mode);
+            cache.put(object, mode, version, rendered);
+        }
+        return rendered;
+    }
+
+    private static String render(Object object, Mode mode) {
         WeavingContext ctx = new WeavingContext(mode, Dictionary.getInstance(), ModeDispatcher.getInstance(), true);
         return ctx.weave(object);
     }
 
+    /**
+     * Writes the string representation of the given object to an
+     * {@link Appendable}, using the specified {@link Mode}.
+     * <p>
+     * The output equals that of {@link #weave(Object, Mode)}, but is copied
+     * into the target without creating an intermediate string.
+     *
+     * @param object the object to generate a string representation for
+     * @param mode the output mode controlling structure and level of detail
+     * @param out the target to append the representation to
+     * @throws IOException if appending to the target fails
+     */
+    public static void weaveTo(Object object, Mode mode, Appendable out) throws IOException {
+        RenderCache cache = renderCache;
+        if (cache != null && object != null && mode != Mode.DIFF && Immutability.isImmutable(object.getClass())) {
+            out.append(weave(object, mode));
+            return;
+        }
+
+        WeavingContext ctx = new WeavingContext(mode, Dictionary.getInstance(), ModeDispatcher.getInstance(), true);
+        ctx.weaveTo(object, out);
+    }
+
+    /**
+     * Writes the string representation of the given object to an
+     * {@link OutputStream} as UTF-8, using the specified {@link Mode}.
+     * <p>
+     * Characters are encoded straight into a per-thread buffer that is written
+     * to the stream as it fills up. The stream is neither flushed nor closed.
+     *
+     * @param object the object to generate a string representation for
+     * @param mode the output mode controlling structure and level of detail
+     * @param out the stream to write the encoded representation to
+     * @throws IOException if writing to the stream fails
+     */
+    public static void weaveTo(Object object, Mode mode, OutputStream out) throws IOException {
+        Utf8Appendable sink = Utf8Appendable.acquire(out);
+        try {
+            weaveTo(object, mode, sink);
+            sink.flush();
+        } finally {
+            sink.release();
+        }
+    }
+
+    /**
+     * Writes the structure of the given object to a binary stream.
+     * <p>
+     * Leaf values are rendered as in {@link Mode#INLINE}; the structure is
+     * rendered only when the stream is read with a
+     * {@link com.robinloom.jweaver.binary.BinaryDecoder}.
+     *
+     * @param object the object to encode
+     * @param encoder the encoder of the target stream
+     * @throws IOException if writing to the stream fails
+     */
+    public static void encode(Object object, BinaryEncoder encoder) throws IOException {
+        encoder.encode(object, new WeavingContext(Mode.INLINE, Dictionary.getInstance(), ModeDispatcher.getInstance(), true));
+    }
+
+    /**
+     * Configures the limits applied to reflective traversal.
+     * <p>
+     * The options bound the traversal depth, the number of rendered sequence
+     * elements and the total number of fields and elements visited per call.
+     * Output that exceeds the node budget ends with a truncation marker.
+     *
+     * @param options the traversal options to use from now on
+     */
+    public static void configure(ASTOptions options) {
+        ModeDispatcher.getInstance().configure(options);
+
+        RenderCache cache = renderCache;
+        if (cache != null) {
+            renderCache = new RenderCache(cache.maximumSize());
+        }
+    }
+
+    /**
+     * Enables caching of the representations of immutable objects.
+     * <p>
+     * Records whose components are all immutable values, common JDK value
+     * types and classes annotated with
+     * {@link com.robinloom.jweaver.annotation.WeaveImmutable} are woven once
+     * and then served from a cache keyed by object identity. The cache holds
+     * its objects weakly and evicts the least recently used entry beyond
+     * the given size. Changing the options via {@link #configure(ASTOptions)}
+     * or registering a weaver with the {@link Dictionary} discards all cached
+     * representations. Output in {@link Mode#DIFF}
+     * depends on earlier calls and is never cached.
+     *
+     * @param maximumSize the maximum number of cached objects
+     */
+    public static void enableRenderCache(int maximumSize) {
+        renderCache = new RenderCache(maximumSize);
+    }
+
+    /**
+     * Disables the cache enabled via {@link #enableRenderCache(int)}.
+     */
+    public static void disableRenderCache() {
+        renderCache = null;
+    }
+
     /**
      * Switches the default mode for {@link #weave(Object)}.
      * @param mode the new default mode to use
@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2026 Robin Kösters
+ * mail[at]robinloom[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.robinloom.jweaver;
+
+import com.robinloom.jweaver.util.WeakIdentityMap;
+
+/**
+ * Bounded cache of rendered strings, keyed by object identity and mode.
+ * <p>
+ * Representations are stored along with the {@link
+ * com.robinloom.jweaver.dictionary.Dictionary#getVersion() dictionary version}
+ * they were rendered under and are only served for that version, so
+ * registering a weaver invalidates them.
+ * <p>
+ * Objects are held weakly, so caching never keeps an object alive. Beyond its
+ * maximum size, the least recently used object is evicted together with its
+ * representations in all modes.
+ * <p>
+ * Only objects that cannot change their representation must be cached. All
+ * methods are thread-safe; rendering happens outside the lock.
+ */
+final class RenderCache {
+
+    private static final int MODES = Mode.values().length;
+
+    private final WeakIdentityMap<Entry> entries;
+
+    RenderCache(int maximumSize) {
+        this.entries = new WeakIdentityMap<>(maximumSize);
+    }
+
+    /**
+     * Returns the cached representation of the object.
+     *
+     * @param object the rendered object
+     * @param mode the mode it was rendered in
+     * @param version the current dictionary version
+     * @return the cached string, or {@code null} if absent or outdated
+     */
+    String get(Object object, Mode mode, int version) {
+        Entry entry = entries.get(object);
+        return entry != null && entry.version() == version ? entry.rendered()[mode.ordinal()] : null;
+    }
+
+    /**
+     * Stores the representation of the object.
+     *
+     * @param object the rendered object
+     * @param mode the mode it was rendered in
+     * @param version the dictionary version read before rendering
+     * @param rendered the rendered string
+     */
+    void put(Object object, Mode mode, int version, String rendered) {
+        Entry previous = entries.get(object);
+        String[] updated = previous != null && previous.version() == version
+                ? previous.rendered().clone()
+                : new String[MODES];
+        updated[mode.ordinal()] = rendered;
+        entries.put(object, new Entry(version, updated));
+    }
+
+    int maximumSize() {
+        return entries.getMaximumSize();
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private record Entry(int version, String[] rendered) {}
+}
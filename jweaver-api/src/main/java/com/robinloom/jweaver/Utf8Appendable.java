@@ -0,0 +1,139 @@
+/*
+ * Copyright (C) 2026 Robin Kösters
+ * mail[at]robinloom[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.robinloom.jweaver;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * {@link Appendable} encoding characters as UTF-8 straight into an
+ * {@link OutputStream}.
+ * <p>
+ * Encoded bytes are collected in a fixed buffer that is written to the stream
+ * whenever it fills up and on {@link #flush()}. Surrogate pairs may be split
+ * across appends; unpaired surrogates are encoded as {@code '?'}, like
+ * {@link String#getBytes(java.nio.charset.Charset)} does.
+ * <p>
+ * One instance per thread is pooled, so weaving to a stream allocates no
+ * buffer per call. A nested use on the same thread gets a fresh instance.
+ */
+final class Utf8Appendable implements Appendable {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final ThreadLocal<Utf8Appendable> POOL = ThreadLocal.withInitial(Utf8Appendable::new);
+
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+    private char highSurrogate;
+    private OutputStream out;
+
+    private Utf8Appendable() {}
+
+    /**
+     * Returns an idle sink writing to the given stream.
+     *
+     * @param out the stream to write to
+     * @return the pooled sink of this thread, or a fresh one if it is in use
+     */
+    static Utf8Appendable acquire(OutputStream out) {
+        Utf8Appendable pooled = POOL.get();
+        Utf8Appendable sink = pooled.out == null ? pooled : new Utf8Appendable();
+        sink.out = out;
+        return sink;
+    }
+
+    /**
+     * Detaches the sink from its stream, discarding unflushed output.
+     */
+    void release() {
+        out = null;
+        position = 0;
+        highSurrogate = 0;
+    }
+
+    @Override
+    public Appendable append(CharSequence csq) throws IOException {
+        return append(csq, 0, csq.length());
+    }
+
+    @Override
+    public Appendable append(CharSequence csq, int start, int end) throws IOException {
+        for (int i = start; i < end; i++) {
+            append(csq.charAt(i));
+        }
+        return this;
+    }
+
+    @Override
+    public Appendable append(char c) throws IOException {
+        if (position > BUFFER_SIZE - 4) {
+            drain();
+        }
+
+        if (highSurrogate != 0) {
+            char high = highSurrogate;
+            highSurrogate = 0;
+
+            if (Character.isLowSurrogate(c)) {
+                int codePoint = Character.toCodePoint(high, c);
+                buffer[position++] = (byte) (0xF0 | codePoint >> 18);
+                buffer[position++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+                buffer[position++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+                buffer[position++] = (byte) (0x80 | codePoint & 0x3F);
+                return this;
+            }
+            buffer[position++] = '?';
+            return append(c);
+        }
+
+        if (c < 0x80) {
+            buffer[position++] = (byte) c;
+        } else if (c < 0x800) {
+            buffer[position++] = (byte) (0xC0 | c >> 6);
+            buffer[position++] = (byte) (0x80 | c & 0x3F);
+        } else if (Character.isHighSurrogate(c)) {
+            highSurrogate = c;
+        } else if (Character.isLowSurrogate(c)) {
+            buffer[position++] = '?';
+        } else {
+            buffer[position++] = (byte) (0xE0 | c >> 12);
+            buffer[position++] = (byte) (0x80 | c >> 6 & 0x3F);
+            buffer[position++] = (byte) (0x80 | c & 0x3F);
+        }
+        return this;
+    }
+
+    /**
+     * Writes all encoded bytes to the stream. A trailing unpaired high
+     * surrogate is written as {@code '?'}. The stream itself is not flushed.
+     *
+     * @throws IOException if writing to the stream fails
+     */
+    void flush() throws IOException {
+        if (highSurrogate != 0) {
+            highSurrogate = 0;
+            buffer[position++] = '?';
+        }
+        drain();
+    }
+
+    private void drain() throws IOException {
+        out.write(buffer, 0, position);
+        position = 0;
+    }
+}
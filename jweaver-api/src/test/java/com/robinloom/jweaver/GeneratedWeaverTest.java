@@ -0,0 +1,71 @@
+package com.robinloom.jweaver;
+
+import com.robinloom.jweaver.annotation.WeaveGenerate;
+import com.robinloom.jweaver.annotation.WeaveIgnore;
+import com.robinloom.jweaver.annotation.WeaveName;
+import com.robinloom.jweaver.annotation.WeaveRedact;
+import com.robinloom.jweaver.dictionary.Dictionary;
+import com.robinloom.jweaver.generated.GeneratedWeaver;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class GeneratedWeaverTest {
+
+    @WeaveGenerate
+    static class Account {
+        String owner;
+        @WeaveName("no")
+        long number;
+        @WeaveRedact
+        String pin;
+        private float balance;
+        @WeaveIgnore
+        Object cache = new Object();
+        short flags;
+        char[] secret;
+        Line lastLine;
+
+        float getBalance() {
+            return balance;
+        }
+    }
+
+    @WeaveGenerate
+    record Line(String sku, int quantity, List<String> tags) {}
+
+    @Test
+    void testGeneratedWeaverIsRegistered() {
+        Assertions.assertInstanceOf(GeneratedWeaver.class, Dictionary.getInstance().resolve(Account.class));
+        Assertions.assertInstanceOf(GeneratedWeaver.class, Dictionary.getInstance().resolve(Line.class));
+    }
+
+    @Test
+    void testInlineOutput() {
+        Account account = new Account();
+        account.owner = "Jane";
+        account.number = 42L;
+        account.pin = "1234";
+        account.balance = 0.1f;
+        account.flags = 3;
+        account.secret = new char[] {'x'};
+        account.lastLine = new Line("A-1", 2, List.of("new"));
+
+        Assertions.assertEquals("Account[owner=\"Jane\", no=42, pin=***, balance=0.1, flags=3, secret=***, "
+                                + "lastLine=Line[sku=\"A-1\", quantity=2, tags=List[1][\"new\"]]]",
+                                JWeaver.weave(account));
+    }
+
+    @Test
+    void testTreeOutput() {
+        Line line = new Line("A-1", 2, List.of());
+
+        String expected = """
+                          Line
+                          |-- sku="A-1"
+                          |-- quantity=2
+                          `-- tags=List[0]""";
+        Assertions.assertEquals(expected, JWeaver.weave(line, Mode.TREE));
+    }
+}
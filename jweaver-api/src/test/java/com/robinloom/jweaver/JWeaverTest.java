@@ -1,7 +1,21 @@
 package com.robinloom.jweaver;
 
+import com.robinloom.jweaver.ast.ASTOptions;
+import com.robinloom.jweaver.binary.BinaryDecoder;
+import com.robinloom.jweaver.binary.BinaryEncoder;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class JWeaverTest {
@@ -18,4 +32,76 @@ class JWeaverTest {
 
         assertEquals(expected, JWeaver.weave(new Person("John")));
     }
-}
\ No newline at end of file
+
+    @Test
+    void configure() {
+        record Pair(String left, String right) {}
+
+        JWeaver.configure(ASTOptions.defaultOptions().withMaxNodes(2));
+        try {
+            assertEquals("Pair[left=\"a\"]...", JWeaver.weave(new Pair("a", "b"), Mode.INLINE));
+        } finally {
+            JWeaver.configure(ASTOptions.defaultOptions());
+        }
+    }
+
+    @Test
+    void encode() throws IOException {
+        record Visit(String place, LocalDate date, List<Integer> rooms) {}
+        Visit visit = new Visit("Bonn", LocalDate.of(2026, 1, 2), List.of(1, 2));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (BinaryEncoder encoder = new BinaryEncoder(bytes)) {
+            JWeaver.encode(visit, encoder);
+        }
+
+        try (BinaryDecoder decoder = new BinaryDecoder(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertEquals(JWeaver.weave(visit, Mode.INLINE), BinaryDecoder.render(decoder.read(), Mode.INLINE));
+        }
+    }
+
+    @Test
+    void weaveTo() throws IOException {
+        record Guest(String name, String greeting, List<Integer> rooms) {}
+        Guest guest = new Guest("Jürgen", "\u00e0 bient\u00f4t \u2615 " + "\ud83d\ude00".repeat(3000), List.of(1, 2));
+
+        for (Mode mode : List.of(Mode.INLINE, Mode.TREE, Mode.JSON)) {
+            String expected = JWeaver.weave(guest, mode);
+
+            StringBuilder sb = new StringBuilder("> ");
+            JWeaver.weaveTo(guest, mode, sb);
+            assertEquals("> " + expected, sb.toString());
+
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            JWeaver.weaveTo(guest, mode, bytes);
+            assertArrayEquals(expected.getBytes(StandardCharsets.UTF_8), bytes.toByteArray());
+        }
+    }
+
+    @Test
+    void weaveJsonRoots() throws IOException {
+        assertEquals("\"say \\\"hi\\\"\"", JWeaver.weave("say \"hi\"", Mode.JSON));
+        assertEquals("42", JWeaver.weave(42, Mode.JSON));
+        assertEquals("true", JWeaver.weave(true, Mode.JSON));
+        assertEquals("\"UUID[\\\"00000000-0000-0000-0000-000000000001\\\"]\"",
+                     JWeaver.weave(new UUID(0, 1), Mode.JSON));
+        assertEquals("\"TimeUnit.SECONDS\"", JWeaver.weave(TimeUnit.SECONDS, Mode.JSON));
+        assertEquals("\"LocalDate[2024-01-02]\"", JWeaver.weave(LocalDate.of(2024, 1, 2), Mode.JSON));
+        assertEquals("\"Optional(1)\"", JWeaver.weave(Optional.of(1), Mode.JSON));
+
+        StringBuilder sb = new StringBuilder();
+        JWeaver.weaveTo("x", Mode.JSON, sb);
+        assertEquals("\"x\"", sb.toString());
+    }
+
+    @Test
+    void weaveJsonRootsWithTypeWeaver() {
+        record Flat(int a, String s) {}
+
+        assertEquals("\"Optional({\\\"a\\\":1,\\\"s\\\":\\\"x\\\"})\"",
+                     JWeaver.weave(Optional.of(new Flat(1, "x")), Mode.JSON));
+        assertEquals("{\"k\":{\"a\":1,\"s\":\"x\"}}", JWeaver.weave(Map.entry("k", new Flat(1, "x")), Mode.JSON));
+        assertEquals("{\"k\":1}", JWeaver.weave(Map.entry("k", 1), Mode.JSON));
+        assertEquals("[{\"k\":1}]", JWeaver.weave(List.of(Map.entry("k", 1)), Mode.JSON));
+    }
+}
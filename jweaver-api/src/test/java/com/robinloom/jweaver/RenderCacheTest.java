@@ -0,0 +1,129 @@
+package com.robinloom.jweaver;
+
+import com.robinloom.jweaver.annotation.WeaveImmutable;
+import com.robinloom.jweaver.dictionary.Dictionary;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RenderCacheTest {
+
+    record Point(int x, int y) {}
+
+    record Label(String text, Point anchor) {}
+
+    record Group(String name, List<Point> points) {}
+
+    record Stamp(int value) {}
+
+    static final class Counter extends Number {
+        int count;
+
+        @Override public int intValue() { return count; }
+        @Override public long longValue() { return count; }
+        @Override public float floatValue() { return count; }
+        @Override public double doubleValue() { return count; }
+        @Override public String toString() { return Integer.toString(count); }
+    }
+
+    record Tally(String name, Counter counter) {}
+
+    @WeaveImmutable
+    static class Catalog {
+        final List<String> entries = List.of("a", "b");
+    }
+
+    @Test
+    void cachesImmutableObjects() {
+        JWeaver.enableRenderCache(16);
+        try {
+            Label label = new Label("origin", new Point(0, 0));
+            Catalog catalog = new Catalog();
+
+            assertSame(JWeaver.weave(label), JWeaver.weave(label));
+            assertSame(JWeaver.weave(catalog), JWeaver.weave(catalog));
+            assertNotEquals(JWeaver.weave(label, Mode.INLINE), JWeaver.weave(label, Mode.TREE));
+        } finally {
+            JWeaver.disableRenderCache();
+        }
+    }
+
+    @Test
+    void skipsMutableObjects() {
+        JWeaver.enableRenderCache(16);
+        try {
+            List<Point> points = new ArrayList<>();
+            Group group = new Group("g", points);
+
+            String before = JWeaver.weave(group);
+            points.add(new Point(1, 2));
+
+            assertNotEquals(before, JWeaver.weave(group));
+        } finally {
+            JWeaver.disableRenderCache();
+        }
+    }
+
+    @Test
+    void skipsMutableNumbers() {
+        JWeaver.enableRenderCache(16);
+        try {
+            Tally tally = new Tally("t", new Counter());
+
+            String before = JWeaver.weave(tally);
+            tally.counter().count++;
+
+            assertNotEquals(before, JWeaver.weave(tally));
+        } finally {
+            JWeaver.disableRenderCache();
+        }
+    }
+
+    @Test
+    void invalidatesOnRegistration() {
+        JWeaver.enableRenderCache(16);
+        try {
+            Stamp stamp = new Stamp(1);
+            assertEquals("Stamp[value=1]", JWeaver.weave(stamp));
+
+            Dictionary.register(new TypeWeaver() {
+                @Override
+                public Class<?> targetType() {
+                    return Stamp.class;
+                }
+
+                @Override
+                public String weave(Object object, WeavingContext ctx) {
+                    return "stamp";
+                }
+            });
+
+            assertEquals("stamp", JWeaver.weave(stamp));
+        } finally {
+            JWeaver.disableRenderCache();
+        }
+    }
+
+    @Test
+    void evictsLeastRecentlyUsed() {
+        RenderCache cache = new RenderCache(2);
+        Object a = new Object();
+        Object b = new Object();
+        Object c = new Object();
+
+        cache.put(a, Mode.INLINE, 0, "a");
+        cache.put(b, Mode.INLINE, 0, "b");
+        assertEquals("a", cache.get(a, Mode.INLINE, 0));
+
+        cache.put(c, Mode.INLINE, 0, "c");
+
+        assertEquals(2, cache.size());
+        assertNull(cache.get(b, Mode.INLINE, 0));
+        assertEquals("a", cache.get(a, Mode.INLINE, 0));
+        assertNull(cache.get(a, Mode.TREE, 0));
+        assertNull(cache.get(a, Mode.INLINE, 1), "Entries of another dictionary version must not be served");
+    }
+}
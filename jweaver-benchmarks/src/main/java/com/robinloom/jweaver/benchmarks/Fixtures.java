@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2026 Robin Kösters
+ * mail[at]robinloom[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.robinloom.jweaver.benchmarks;
+
+import com.robinloom.jweaver.ast.ASTOptions;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+/**
+ * Object shapes exercised by {@link WeaveBenchmark}.
+ * <p>
+ * Each fixture targets a distinct path through the reflective traversal:
+ * plain field access, depth limiting, sequence truncation, map entries,
+ * primitive arrays, records and cycle detection. Sizes are derived from
+ * {@link ASTOptions#defaultOptions()} so the fixtures keep hitting the
+ * configured limits if the defaults change.
+ */
+final class Fixtures {
+
+    private static final ASTOptions OPTIONS = ASTOptions.defaultOptions();
+
+    private Fixtures() {}
+
+    /**
+     * A typical request DTO with primitive, boxed and value-type fields.
+     */
+    @SuppressWarnings("unused")
+    static final class FlatDto {
+        private final long id = 4711L;
+        private final int version = 3;
+        private final double amount = 199.95;
+        private final boolean active = true;
+        private final String name = "Jane Doe";
+        private final String email = "jane.doe@example.com";
+        private final Integer retries = 2;
+        private final UUID correlationId = UUID.fromString("ea15da83-96f3-4eff-87bf-b61f4ae36b30");
+        private final LocalDate createdAt = LocalDate.of(2026, 1, 1);
+        private final Status status = Status.ACTIVE;
+        private final String password = "hunter2";
+    }
+
+    enum Status { ACTIVE, SUSPENDED }
+
+    /**
+     * Linked chain used to reach the configured maximum depth.
+     */
+    @SuppressWarnings("unused")
+    static final class Link {
+        private final int level;
+        private final Link next;
+
+        Link(int level, Link next) {
+            this.level = level;
+            this.next = next;
+        }
+    }
+
+    /**
+     * Self-referencing graph node used to trigger cycle detection.
+     */
+    @SuppressWarnings("unused")
+    static final class GraphNode {
+        private final String name;
+        private final List<GraphNode> neighbours = new ArrayList<>();
+
+        GraphNode(String name) {
+            this.name = name;
+        }
+    }
+
+    record Address(String street, String city, int zip) {}
+
+    record Customer(String name, int age, Address address, List<String> tags) {}
+
+    static FlatDto flatDto() {
+        return new FlatDto();
+    }
+
+    static Link deepChain() {
+        Link link = null;
+        for (int level = OPTIONS.getMaxDepth() + 2; level > 0; level--) {
+            link = new Link(level, link);
+        }
+        return link;
+    }
+
+    static List<FlatDto> wideCollection() {
+        return IntStream.range(0, OPTIONS.getMaxSequenceLength() * 100)
+                        .mapToObj(_ -> new FlatDto())
+                        .toList();
+    }
+
+    static Map<String, Object> map() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (int i = 0; i < OPTIONS.getMaxSequenceLength(); i++) {
+            map.put("key-" + i, i % 2 == 0 ? new FlatDto() : "value-" + i);
+        }
+        return map;
+    }
+
+    static double[] primitiveArray() {
+        return IntStream.range(0, 100_000).asDoubleStream().toArray();
+    }
+
+    static Customer record() {
+        return new Customer("John Doe", 42,
+                            new Address("Main St 1", "Springfield", 12345),
+                            List.of("premium", "newsletter"));
+    }
+
+    static GraphNode cyclicGraph() {
+        GraphNode a = new GraphNode("a");
+        GraphNode b = new GraphNode("b");
+        GraphNode c = new GraphNode("c");
+
+        a.neighbours.add(b);
+        a.neighbours.add(c);
+        b.neighbours.add(a);
+        b.neighbours.add(c);
+        c.neighbours.add(a);
+        c.neighbours.add(c);
+
+        return a;
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2026 Robin Kösters
+ * mail[at]robinloom[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.robinloom.jweaver.benchmarks;
+
+import com.robinloom.jweaver.JWeaver;
+import com.robinloom.jweaver.Mode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of {@link JWeaver#weave(Object, Mode)} across representative
+ * object shapes and all reflective modes.
+ * <p>
+ * Run through {@link BenchmarkRunner} to additionally report the allocation
+ * rate per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(org.openjdk.jmh.annotations.Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WeaveBenchmark {
+
+    @Param({"INLINE", "TREE"})
+    public Mode mode;
+
+    private Object flatDto;
+    private Object deepChain;
+    private Object wideCollection;
+    private Object map;
+    private Object primitiveArray;
+    private Object record;
+    private Object cyclicGraph;
+
+    @Setup
+    public void setup() {
+        flatDto = Fixtures.flatDto();
+        deepChain = Fixtures.deepChain();
+        wideCollection = Fixtures.wideCollection();
+        map = Fixtures.map();
+        primitiveArray = Fixtures.primitiveArray();
+        record = Fixtures.record();
+        cyclicGraph = Fixtures.cyclicGraph();
+    }
+
+    @Benchmark
+    public String flatDto() {
+        return JWeaver.weave(flatDto, mode);
+    }
+
+    @Benchmark
+    public String deepNesting() {
+        return JWeaver.weave(deepChain, mode);
+    }
+
+    @Benchmark
+    public String wideCollection() {
+        return JWeaver.weave(wideCollection, mode);
+    }
+
+    @Benchmark
+    public String map() {
+        return JWeaver.weave(map, mode);
+    }
+
+    @Benchmark
+    public String primitiveArray() {
+        return JWeaver.weave(primitiveArray, mode);
+    }
+
+    @Benchmark
+    public String record() {
+        return JWeaver.weave(record, mode);
+    }
+
+    @Benchmark
+    public String cyclicGraph() {
+        return JWeaver.weave(cyclicGraph, mode);
+    }
+}
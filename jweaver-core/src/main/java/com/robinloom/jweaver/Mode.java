@@ -42,5 +42,20 @@ public enum Mode {
      * <p>
      * Emphasizes object structure and relationships.
      */
-    TREE
+    TREE,
+
+    /**
+     * Changes since the same instance was last woven.
+     * <p>
+     * Lists only the paths whose values changed, which keeps repeated
+     * logging of large, slowly changing objects short.
+     */
+    DIFF,
+
+    /**
+     * Single-line JSON document.
+     * <p>
+     * Suitable for log shippers and tools that index JSON natively.
+     */
+    JSON
 }
\ No newline at end of file
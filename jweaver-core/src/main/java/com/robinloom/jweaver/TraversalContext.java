@@ -27,15 +27,23 @@ import java.util.Set;
  * produces an acyclic tree structure. It prevents both excessive recursion
  * depth and repeated processing of the same object instance.
  * <p>
- * Two constraints are enforced:
+ * Three constraints are enforced:
  * <ul>
  *     <li><b>Maximum depth</b> – traversal stops once the configured depth is reached</li>
  *     <li><b>Visited tracking</b> – object identity is tracked to avoid revisiting
  *     the same instance and creating cycles</li>
+ *     <li><b>Node budget</b> – every visited field or element {@link #consume() consumes}
+ *     one unit of a budget shared by the whole traversal; once it is exhausted,
+ *     traversal stops altogether</li>
  * </ul>
  * <p>
  * Object identity (not equality) is used to detect previously visited elements.
  * <p>
+ * Besides the traversal constraints, the context owns an output buffer that
+ * renderers participating in the traversal may share. Nested renderers append
+ * behind the current content and truncate the buffer back once they have
+ * extracted their result.
+ * <p>
  * Usage follows a strict enter/exit pattern:
  * <pre>
  * if (context.enter(obj)) {
@@ -48,17 +56,31 @@ import java.util.Set;
  * </pre>
  * <p>
  * This class is stateful and intended for use within a single traversal.
- * It must be {@link #reset() reset} before reuse.
+ * It must be {@link #reset() reset} before reuse. Contexts that are pooled
+ * across traversals are {@link #claim() claimed} for the duration of a
+ * traversal and {@link #release() released} afterwards.
  */
 public final class TraversalContext {
 
     private final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
 
+    private static final int MAX_RETAINED_BUFFER_CAPACITY = 64 * 1024;
+
     private final int maxDepth;
+    private final int maxNodes;
     private int depth = 0;
+    private int nodes = 0;
+    private boolean truncated;
+    private boolean claimed;
+    private StringBuilder buffer;
 
     public TraversalContext(int maxDepth) {
+        this(maxDepth, Integer.MAX_VALUE);
+    }
+
+    public TraversalContext(int maxDepth, int maxNodes) {
         this.maxDepth = maxDepth;
+        this.maxNodes = maxNodes;
     }
 
     /**
@@ -91,6 +113,102 @@ public final class TraversalContext {
         visited.remove(o);
     }
 
+    /**
+     * Consumes one unit of the node budget.
+     *
+     * @return {@code true} if the node may be visited, {@code false} if the
+     *         budget is exhausted
+     */
+    public boolean consume() {
+        if (nodes >= maxNodes) {
+            return false;
+        }
+
+        nodes++;
+        return true;
+    }
+
+    /**
+     * Consumes several units of the node budget at once.
+     * <p>
+     * Either all units are consumed or none.
+     *
+     * @param units the number of units to consume
+     * @return {@code true} if the units were consumed, {@code false} if the
+     *         remaining budget is insufficient
+     */
+    public boolean consume(int units) {
+        if (maxNodes - nodes < units) {
+            return false;
+        }
+
+        nodes += units;
+        return true;
+    }
+
+    /**
+     * Returns the number of budget units consumed so far.
+     *
+     * @return the consumed node count
+     */
+    public int getConsumed() {
+        return nodes;
+    }
+
+    /**
+     * Indicates whether the node budget has been used up.
+     *
+     * @return {@code true} if no further nodes may be visited
+     */
+    public boolean isExhausted() {
+        return nodes >= maxNodes;
+    }
+
+    /**
+     * Records that the output has been truncated because of the node budget.
+     * <p>
+     * Used to write the truncation marker exactly once per traversal.
+     *
+     * @return {@code true} on the first call, {@code false} if the truncation
+     *         was already recorded
+     */
+    public boolean truncate() {
+        if (truncated) {
+            return false;
+        }
+
+        truncated = true;
+        return true;
+    }
+
+    /**
+     * Indicates whether the output has been truncated because of the node budget.
+     *
+     * @return {@code true} if a truncation was recorded
+     */
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    /**
+     * Creates an independent context for traversing a subtree concurrently.
+     * <p>
+     * The fork starts at the current depth with a copy of the visited set,
+     * which at any point holds exactly the objects on the path from the root.
+     * A subtree traversed by a fork therefore sees the same cycle and depth
+     * decisions as it would in this context. The fork's node budget is the
+     * budget remaining here, and it has its own output buffer.
+     *
+     * @return a claimed context for the subtree
+     */
+    public TraversalContext fork() {
+        TraversalContext fork = new TraversalContext(maxDepth, maxNodes - nodes);
+        fork.visited.addAll(visited);
+        fork.depth = depth;
+        fork.claimed = true;
+        return fork;
+    }
+
     /**
      * Resets the traversal state.
      * <p>
@@ -100,5 +218,59 @@ public final class TraversalContext {
     public void reset() {
         visited.clear();
         depth = 0;
+        nodes = 0;
+        truncated = false;
+
+        if (buffer != null) {
+            buffer.setLength(0);
+        }
+    }
+
+    /**
+     * Returns the output buffer shared by all renderers of this traversal.
+     *
+     * @return the shared buffer, created on first access
+     */
+    public StringBuilder getBuffer() {
+        if (buffer == null) {
+            buffer = new StringBuilder();
+        }
+        return buffer;
+    }
+
+    /**
+     * Claims this context for a new traversal.
+     * <p>
+     * A claimed context starts from a clean state. Claiming fails while the
+     * context is still in use, e.g. when a traversal is started re-entrantly
+     * from within another one on the same thread.
+     *
+     * @return {@code true} if the context was claimed, {@code false} if it is
+     *         already in use
+     */
+    public boolean claim() {
+        if (claimed) {
+            return false;
+        }
+
+        reset();
+        claimed = true;
+        return true;
+    }
+
+    /**
+     * Releases a previously {@link #claim() claimed} context.
+     * <p>
+     * The state is reset so that no object references are retained while the
+     * context is idle. Buffers that grew unusually large are dropped instead of
+     * being retained for the next traversal.
+     */
+    public void release() {
+        reset();
+        claimed = false;
+
+        if (buffer != null && buffer.capacity() > MAX_RETAINED_BUFFER_CAPACITY) {
+            buffer = null;
+        }
     }
 }
@@ -18,6 +18,8 @@ package com.robinloom.jweaver;
 
 import org.jspecify.annotations.NonNull;
 
+import java.io.IOException;
+
 /**
  * Defines a strategy for converting an object into a string representation.
  * <p>
@@ -42,4 +44,22 @@ public interface Weaver {
      * @param ctx the current weaving context
      * @return a human-readable representation of the object
      */
-    String weave(@NonNull Object object, WeavingContext ctx);}
+    String weave(@NonNull Object object, WeavingContext ctx);
+
+    /**
+     * Writes the representation of the given object to an {@link Appendable}.
+     * <p>
+     * The default implementation appends the result of
+     * {@link #weave(Object, WeavingContext)}. Implementations that render into
+     * a buffer override it to copy that buffer into the target directly,
+     * without creating an intermediate string.
+     *
+     * @param object the object to render
+     * @param ctx the current weaving context
+     * @param out the target to append the representation to
+     * @throws IOException if appending to the target fails
+     */
+    default void weaveTo(@NonNull Object object, WeavingContext ctx, Appendable out) throws IOException {
+        out.append(weave(object, ctx));
+    }
+}
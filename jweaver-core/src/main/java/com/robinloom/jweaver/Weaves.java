@@ -0,0 +1,45 @@
+/*
+ * Copyright (C) 2026 Robin Kösters
+ * mail[at]robinloom[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.robinloom.jweaver;
+
+import java.lang.annotation.*;
+
+/**
+ * Declares the target type of a {@link TypeWeaver} provided as a service.
+ * <p>
+ * Custom weavers are discovered through {@link java.util.ServiceLoader}, either
+ * via a {@code META-INF/services/com.robinloom.jweaver.TypeWeaver} file or a
+ * {@code provides} clause in {@code module-info.java}. When the
+ * {@code jweaver-processor} annotation processor is present at compile time,
+ * annotated weavers are additionally listed in a generated index together with
+ * their target type. Indexed weavers are only instantiated once their target
+ * type, or one of its subtypes, is woven for the first time.
+ * <p>
+ * The declared type must match {@link TypeWeaver#targetType()}.
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface Weaves {
+
+    /**
+     * Returns the type handled by the annotated weaver.
+     *
+     * @return the target class of the weaver
+     */
+    Class<?> value();
+}
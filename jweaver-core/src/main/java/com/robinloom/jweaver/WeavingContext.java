@@ -16,6 +16,8 @@
  */
 package com.robinloom.jweaver;
 
+import java.io.IOException;
+
 /**
  * Context object coordinating the weaving process.
  * <p>
@@ -24,25 +26,39 @@ package com.robinloom.jweaver;
  * value is processed by resolving either a {@link TypeWeaver} (for specific
  * types) or a general {@link Weaver} based on the selected {@link Mode}.
  * <p>
- * The context is propagated recursively during traversal. Each nested call
- * receives a derived child context, allowing the weaving process to distinguish
- * between the root object and nested values.
+ * The context is propagated recursively during traversal. A single instance
+ * serves an entire weaving operation: it keeps a depth cursor that is advanced
+ * while a nested value is woven and restored afterwards, allowing the weaving
+ * process to distinguish between the root object and nested values without
+ * creating a context per value.
+ * <p>
+ * While a reflective traversal is in progress, the context carries its
+ * {@link TraversalContext}. Nested values woven through the context, including
+ * those woven by {@link TypeWeaver}s, continue that traversal: they share its
+ * depth budget, its cycle detection and its output buffer instead of starting
+ * over.
  * <p>
  * Resolution order:
  * <ul>
  *     <li>If a {@link TypeWeaver} is available for the value's type, it is used.</li>
  *     <li>Otherwise, a mode-specific {@link Weaver} is used for reflective processing.</li>
  * </ul>
+ * In {@link Mode#JSON}, values woven outside of a traversal always go to the
+ * mode-specific weaver, as only it produces a JSON document. Their
+ * {@link TypeWeaver}, if any, still renders them as leaves of that document.
  * <p>
- * Instances of this class are immutable and lightweight. A new child context
- * is created for each nested weaving step.
+ * Instances of this class are mutable and confined to a single weaving
+ * operation. They must not be shared between threads or reused concurrently;
+ * work handed to other threads uses a {@link #fork(TraversalContext) fork}.
  */
 public final class WeavingContext {
 
     private final Mode mode;
     private final TypeWeaverResolver typeWeaverResolver;
     private final ReflectionWeaverResolver reflectionWeaverResolver;
-    private final boolean isRoot;
+
+    private int depth;
+    private TraversalContext traversal;
 
     public WeavingContext(Mode mode,
                           TypeWeaverResolver typeWeaverResolver,
@@ -51,7 +67,7 @@ public final class WeavingContext {
         this.mode = mode;
         this.typeWeaverResolver = typeWeaverResolver;
         this.reflectionWeaverResolver = reflectionWeaverResolver;
-        this.isRoot = isRoot;
+        this.depth = isRoot ? 0 : 1;
     }
 
     /**
@@ -65,13 +81,94 @@ public final class WeavingContext {
             return "null";
         }
 
-        TypeWeaver typeWeaver = typeWeaverResolver.resolve(value.getClass());
-        if (typeWeaver != null) {
-            return typeWeaver.weave(value, childContext());
+        depth++;
+        try {
+            TypeWeaver typeWeaver = typeWeaverFor(value);
+            if (typeWeaver != null) {
+                return typeWeaver.weave(value, this);
+            }
+
+            Weaver weaver = reflectionWeaverResolver.resolve(mode);
+            return weaver.weave(value, this);
+        } finally {
+            depth--;
+        }
+    }
+
+    /**
+     * Writes the string representation of the given value to an {@link Appendable}.
+     * <p>
+     * Resolves the weaver exactly like {@link #weave(Object)}, but lets it
+     * write into the target instead of returning a string.
+     *
+     * @param value the value to weave (may be {@code null})
+     * @param out the target to append the representation to
+     * @throws IOException if appending to the target fails
+     */
+    public void weaveTo(Object value, Appendable out) throws IOException {
+        if (value == null) {
+            out.append("null");
+            return;
         }
 
-        Weaver weaver = reflectionWeaverResolver.resolve(mode);
-        return weaver.weave(value, childContext());
+        depth++;
+        try {
+            TypeWeaver typeWeaver = typeWeaverFor(value);
+            if (typeWeaver != null) {
+                typeWeaver.weaveTo(value, this, out);
+                return;
+            }
+
+            reflectionWeaverResolver.resolve(mode).weaveTo(value, this, out);
+        } finally {
+            depth--;
+        }
+    }
+
+    private TypeWeaver typeWeaverFor(Object value) {
+        if (mode == Mode.JSON && traversal == null) {
+            return null;
+        }
+        return resolveTypeWeaver(value.getClass());
+    }
+
+    /**
+     * Resolves the {@link TypeWeaver} registered for the given type.
+     *
+     * @param type the type to look up
+     * @return the matching type weaver, or {@code null} if the type is
+     *         rendered by the mode-specific {@link Weaver}
+     */
+    public TypeWeaver resolveTypeWeaver(Class<?> type) {
+        return typeWeaverResolver.resolve(type);
+    }
+
+    /**
+     * Converts the given value using the mode-specific {@link Weaver},
+     * bypassing {@link TypeWeaver} resolution.
+     * <p>
+     * Intended for {@link TypeWeaver}s that only change how the structure of a
+     * type is read, but render it like any other object. The call does not
+     * count as a nesting step of its own.
+     *
+     * @param value the value to weave
+     * @return the structural representation of the value
+     */
+    public String weaveStructure(Object value) {
+        return reflectionWeaverResolver.resolve(mode).weave(value, this);
+    }
+
+    /**
+     * Writes the structural representation of the given value to an
+     * {@link Appendable}, bypassing {@link TypeWeaver} resolution like
+     * {@link #weaveStructure(Object)}.
+     *
+     * @param value the value to weave
+     * @param out the target to append the representation to
+     * @throws IOException if appending to the target fails
+     */
+    public void weaveStructureTo(Object value, Appendable out) throws IOException {
+        reflectionWeaverResolver.resolve(mode).weaveTo(value, this, out);
     }
 
     /**
@@ -81,10 +178,44 @@ public final class WeavingContext {
      *         {@code false} for nested values
      */
     public boolean isRoot() {
-        return isRoot;
+        return depth == 0;
+    }
+
+    /**
+     * Returns the traversal this context participates in.
+     *
+     * @return the active traversal, or {@code null} if no reflective traversal
+     *         is in progress
+     */
+    public TraversalContext getTraversal() {
+        return traversal;
     }
 
-    private WeavingContext childContext() {
-        return new WeavingContext(mode, typeWeaverResolver, reflectionWeaverResolver, false);
+    /**
+     * Creates a context for weaving a subtree on another thread.
+     * <p>
+     * The fork shares the resolvers and the current nesting depth of this
+     * context but is otherwise independent of it.
+     *
+     * @param traversal the traversal the fork participates in
+     * @return a new context confined to the forked operation
+     */
+    public WeavingContext fork(TraversalContext traversal) {
+        WeavingContext fork = new WeavingContext(mode, typeWeaverResolver, reflectionWeaverResolver, true);
+        fork.depth = depth;
+        fork.traversal = traversal;
+        return fork;
+    }
+
+    /**
+     * Attaches the traversal that nested weaving steps continue.
+     * <p>
+     * Set by the renderer that starts a reflective traversal and cleared again
+     * once it has completed.
+     *
+     * @param traversal the active traversal, or {@code null} to detach it
+     */
+    public void setTraversal(TraversalContext traversal) {
+        this.traversal = traversal;
     }
 }
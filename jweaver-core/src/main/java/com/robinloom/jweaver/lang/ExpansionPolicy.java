@@ -34,13 +34,37 @@ import java.util.stream.Stream;
  * <p>Container types such as arrays, {@link Iterable}, and {@link Map} are explicitly
  * allowed, as they represent structural data rather than infrastructure.</p>
  *
+ * <p>Each type is {@linkplain #classify(Class) classified} once; the resulting
+ * {@link TypeClassification} is cached per class, so repeated queries cost a
+ * single lookup.</p>
+ *
  * <p>This policy is intentionally conservative and may evolve over time as new
  * edge cases are discovered.</p>
  */
 public final class ExpansionPolicy {
 
+    private static final ClassValue<TypeClassification> CLASSIFICATIONS = new ClassValue<>() {
+        @Override
+        protected TypeClassification computeValue(Class<?> type) {
+            return compute(type);
+        }
+    };
+
     private ExpansionPolicy() {}
 
+    /**
+     * Returns the cached classification of the given type.
+     *
+     * @param type the type to classify
+     * @return the classification; {@link TypeClassification#VALUE} for {@code null}
+     */
+    public static TypeClassification classify(@Nullable Class<?> type) {
+        if (type == null) {
+            return TypeClassification.VALUE;
+        }
+        return CLASSIFICATIONS.get(type);
+    }
+
     /**
      * Determines whether the given type should <strong>not</strong> be expanded.
      *
@@ -51,30 +75,36 @@ public final class ExpansionPolicy {
      * @return {@code true} if the type should not be expanded, {@code false} otherwise
      */
     public static boolean shouldNotExpand(@Nullable Class<?> type) {
+        return classify(type).isLeaf();
+    }
 
-        if (type == null) return true;
+    private static TypeClassification compute(Class<?> type) {
 
         if (ValueTypes.isValueType(type)) {
-            return true;
+            return TypeClassification.VALUE;
         }
 
         if (isContainer(type)) {
-            return false;
+            return TypeClassification.CONTAINER;
         }
 
         if (isConsumable(type)) {
-            return true;
+            return TypeClassification.CONSUMABLE;
         }
 
         if (isLikelyProxy(type)) {
-            return true;
+            return TypeClassification.PROXY;
         }
 
         if (isJdkInternal(type)) {
-            return true;
+            return TypeClassification.INTERNAL;
+        }
+
+        if (isLikelyInfrastructure(type)) {
+            return TypeClassification.INFRA;
         }
 
-        return isLikelyInfrastructure(type);
+        return TypeClassification.EXPAND;
     }
 
     private static boolean isContainer(Class<?> type) {
@@ -0,0 +1,57 @@
+/*
+ * Copyright (C) 2026 Robin Kösters
+ * mail[at]robinloom[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.robinloom.jweaver.lang;
+
+/**
+ * Classification of a type as determined by {@link ExpansionPolicy}.
+ *
+ * <p>Each constant corresponds to one of the categories of the policy. Only
+ * {@link #CONTAINER} and {@link #EXPAND} types are traversed reflectively; all
+ * other categories are treated as leaves.</p>
+ */
+public enum TypeClassification {
+
+    /** Simple, self-contained value such as a string, number, enum or date. */
+    VALUE,
+
+    /** Structural container: array, {@link Iterable}, {@link java.util.Map} or map entry. */
+    CONTAINER,
+
+    /** One-time or stateful resource such as a stream, iterator or future. */
+    CONSUMABLE,
+
+    /** Dynamically generated class, e.g. a JDK, CGLIB or ByteBuddy proxy. */
+    PROXY,
+
+    /** Low-level or reflective JDK infrastructure. */
+    INTERNAL,
+
+    /** Framework or runtime component, e.g. from Spring, Hibernate or a thread pool. */
+    INFRA,
+
+    /** Regular object whose fields are expanded. */
+    EXPAND;
+
+    /**
+     * Indicates whether types of this classification are rendered as leaves.
+     *
+     * @return {@code true} if the type should not be expanded
+     */
+    public boolean isLeaf() {
+        return this != CONTAINER && this != EXPAND;
+    }
+}
@@ -37,10 +37,7 @@ import com.robinloom.jweaver.dictionary.java.util.OptionalWeaver;
 import com.robinloom.jweaver.dictionary.java.util.UUIDWeaver;
 import com.robinloom.jweaver.lang.ExpansionPolicy;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.*;
 
 /**
  * Default implementation of {@link TypeWeaverResolver} based on a registry of known type weavers.
@@ -54,14 +51,27 @@ import java.util.concurrent.ConcurrentHashMap;
  * <ul>
  *     <li>All registered {@link TypeWeaver}s are considered if their target type
  *     is assignable from the requested class</li>
- *     <li>If multiple candidates match, the most specific type is selected</li>
+ *     <li>If multiple candidates match, the most specific type is selected; for the
+ *     same target type the latest registration wins, among unrelated target types
+ *     the earliest one</li>
  *     <li>If no match is found, simple types are handled by a default
  *     {@code ToStringWeaver}</li>
  *     <li>If no applicable weaver exists, {@code null} is returned</li>
  * </ul>
  * <p>
- * Results are cached per class for performance. The cache is cleared whenever
- * new {@link TypeWeaver}s are registered.
+ * Weavers are indexed by their target type. Candidates are found by walking the
+ * superclasses and interfaces of the requested class, so resolution cost does not
+ * grow with the number of registered weavers. Results are cached per class in a
+ * {@link ClassValue}.
+ * <p>
+ * Registration is copy-on-write: readers always see a consistent, immutable
+ * snapshot of the registry without locking. A cached result is only recomputed
+ * if a weaver registered after it was resolved targets a supertype of the class.
+ * <p>
+ * Additional weavers are discovered as {@link java.util.ServiceLoader} services
+ * of type {@link TypeWeaver}. Services annotated with
+ * {@link com.robinloom.jweaver.Weaves} and indexed at compile time are only
+ * instantiated once a class assignable to their target type is resolved.
  * <p>
  * This class is implemented as a singleton and is intended to be reused.
  */
@@ -75,10 +85,26 @@ public class Dictionary implements TypeWeaverResolver {
         return Holder.INSTANCE;
     }
 
-    private static final List<TypeWeaver> RENDERERS = new ArrayList<>();
-    private static final Map<Class<?>, TypeWeaver> CACHE = new ConcurrentHashMap<>();
     private static final ToStringWeaver FALLBACK = new ToStringWeaver();
 
+    private static final ClassValue<Resolution> RESOLUTIONS = new ClassValue<>() {
+        @Override
+        protected Resolution computeValue(Class<?> type) {
+            return new Resolution();
+        }
+    };
+
+    private static volatile Registry registry = Registry.EMPTY;
+
+    private static class Services {
+        private static final ServiceWeavers INSTANCE = ServiceWeavers.discover(loader(), Dictionary::register);
+
+        private static ClassLoader loader() {
+            ClassLoader loader = Thread.currentThread().getContextClassLoader();
+            return loader != null ? loader : Dictionary.class.getClassLoader();
+        }
+    }
+
     static {
         // java.io
         register(new ByteArrayOutputStreamWeaver());
@@ -115,14 +141,32 @@ public class Dictionary implements TypeWeaverResolver {
      * Registers a new {@link TypeWeaver}.
      * <p>
      * Newly registered weavers participate in future resolution and may override
-     * existing matches if they are more specific. The internal cache is cleared
-     * to ensure consistent resolution.
+     * existing matches if they are more specific. Only cached resolutions of
+     * subtypes of the weaver's target type are invalidated.
+     * <p>
+     * Registration may happen at any time and from any thread. Concurrent
+     * resolution is never blocked.
+     * <p>
+     * Weavers of number types also apply to primitive fields and array
+     * elements, which are then boxed instead of being written directly.
      *
      * @param weaver the weaver to register
      */
-    static void register(TypeWeaver weaver) {
-        RENDERERS.add(weaver);
-        CACHE.clear();
+    public static synchronized void register(TypeWeaver weaver) {
+        registry = registry.with(weaver);
+    }
+
+    /**
+     * Returns the version of the registry.
+     * <p>
+     * The version changes whenever a weaver is registered, including weavers
+     * discovered as services. Results derived from resolved weavers remain
+     * valid as long as the version is unchanged.
+     *
+     * @return the current registry version
+     */
+    public static int getVersion() {
+        return registry.version();
     }
 
     private Dictionary() {}
@@ -135,11 +179,42 @@ public class Dictionary implements TypeWeaverResolver {
      */
     @Override
     public TypeWeaver resolve(Class<?> clazz) {
-        return CACHE.computeIfAbsent(clazz, this::find);
+        Resolution resolution = RESOLUTIONS.get(clazz);
+
+        Resolved resolved = resolution.resolved;
+        if (resolved == null) {
+            discover(clazz);
+        }
+
+        Registry current = registry;
+        if (resolved == null || resolved.version() != current.version()) {
+            resolved = refresh(clazz, resolved, current);
+            resolution.resolved = resolved;
+        }
+
+        return resolved.weaver();
+    }
+
+    /**
+     * Registers all pending service weavers targeting a supertype of the class.
+     */
+    private static void discover(Class<?> clazz) {
+        for (TypeWeaver weaver : Services.INSTANCE.load(hierarchy(clazz))) {
+            register(weaver);
+        }
+    }
+
+    private static Resolved refresh(Class<?> clazz, Resolved previous, Registry current) {
+        if (previous != null && previous.version() < current.version()
+                && !current.affects(clazz, previous.version())) {
+            return new Resolved(current.version(), previous.weaver());
+        }
+
+        return new Resolved(current.version(), find(clazz, current));
     }
 
-    private TypeWeaver find(Class<?> clazz) {
-        TypeWeaver best = findBest(clazz);
+    private static TypeWeaver find(Class<?> clazz, Registry current) {
+        TypeWeaver best = findBest(clazz, current);
         if (best != null) {
             return best;
         }
@@ -151,23 +226,118 @@ public class Dictionary implements TypeWeaverResolver {
         return null;
     }
 
-    private TypeWeaver findBest(Class<?> clazz) {
-        TypeWeaver best = null;
+    private static TypeWeaver findBest(Class<?> clazz, Registry current) {
+        List<Registration> candidates = new ArrayList<>();
+        for (Class<?> type : hierarchy(clazz)) {
+            candidates.addAll(current.registeredFor(type));
+        }
 
-        for (TypeWeaver weaver : RENDERERS) {
-            Class<?> target = weaver.targetType();
+        if (candidates.isEmpty()) {
+            return null;
+        }
 
-            if (target.isAssignableFrom(clazz)) {
-                if (best == null || isMoreSpecific(target, best.targetType())) {
-                    best = weaver;
-                }
+        candidates.sort(Comparator.comparingInt(Registration::sequence));
+
+        TypeWeaver best = null;
+        for (Registration candidate : candidates) {
+            Class<?> target = candidate.weaver().targetType();
+
+            if (best == null || isMoreSpecific(target, best.targetType())) {
+                best = candidate.weaver();
             }
         }
 
         return best;
     }
 
-    private boolean isMoreSpecific(Class<?> a, Class<?> b) {
+    private static boolean isMoreSpecific(Class<?> a, Class<?> b) {
         return b.isAssignableFrom(a);
     }
-}
\ No newline at end of file
+
+    /**
+     * Collects all types the given class is assignable to.
+     */
+    private static Set<Class<?>> hierarchy(Class<?> clazz) {
+        Set<Class<?>> types = new LinkedHashSet<>();
+        collect(clazz, types);
+
+        if (clazz.isArray() && !clazz.getComponentType().isPrimitive()) {
+            for (Class<?> component : hierarchy(clazz.getComponentType())) {
+                types.add(component.arrayType());
+            }
+        }
+
+        if (!clazz.isPrimitive()) {
+            types.add(Object.class);
+        }
+
+        return types;
+    }
+
+    private static void collect(Class<?> type, Set<Class<?>> types) {
+        if (type == null || !types.add(type)) {
+            return;
+        }
+
+        collect(type.getSuperclass(), types);
+        for (Class<?> iface : type.getInterfaces()) {
+            collect(iface, types);
+        }
+    }
+
+    private record Registration(int sequence, TypeWeaver weaver) {}
+
+    private record Resolved(int version, TypeWeaver weaver) {}
+
+    /**
+     * Per-class cache slot holding the latest resolution.
+     */
+    private static final class Resolution {
+        private volatile Resolved resolved;
+    }
+
+    /**
+     * Immutable snapshot of all registrations.
+     *
+     * @param byTarget registrations indexed by their exact target type
+     * @param targets target types in registration order; the length is the version
+     */
+    private record Registry(Map<Class<?>, List<Registration>> byTarget, Class<?>[] targets) {
+
+        static final Registry EMPTY = new Registry(Map.of(), new Class<?>[0]);
+
+        int version() {
+            return targets.length;
+        }
+
+        List<Registration> registeredFor(Class<?> type) {
+            return byTarget.getOrDefault(type, List.of());
+        }
+
+        /**
+         * Checks whether a registration made after the given version applies to the class.
+         */
+        boolean affects(Class<?> clazz, int since) {
+            for (int i = since; i < targets.length; i++) {
+                if (targets[i].isAssignableFrom(clazz)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        Registry with(TypeWeaver weaver) {
+            Class<?> target = weaver.targetType();
+
+            Map<Class<?>, List<Registration>> index = new HashMap<>(byTarget);
+            List<Registration> registrations = new ArrayList<>(registeredFor(target));
+            registrations.add(new Registration(version(), weaver));
+            index.put(target, List.copyOf(registrations));
+
+            Class<?>[] extended = Arrays.copyOf(targets, targets.length + 1);
+            extended[targets.length] = target;
+
+            return new Registry(Map.copyOf(index), extended);
+        }
+    }
+}
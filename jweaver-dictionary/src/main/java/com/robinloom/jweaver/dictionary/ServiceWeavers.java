@@ -0,0 +1,172 @@
+/*
+ * Copyright (C) 2026 Robin Kösters
+ * mail[at]robinloom[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.robinloom.jweaver.dictionary;
+
+import com.robinloom.jweaver.TypeWeaver;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Lazily discovers {@link TypeWeaver} services provided via {@link ServiceLoader}.
+ * <p>
+ * Providers are located once, which loads their classes without initializing
+ * them. Providers listed in a generated {@value #INDEX} resource are keyed by
+ * their target type and only instantiated when a class assignable to that type
+ * is resolved for the first time. Providers missing from the index have to be
+ * instantiated to learn their target type, so they are registered right away.
+ * <p>
+ * A provider that fails to load or instantiate is skipped. So is an indexed
+ * provider whose {@link TypeWeaver#targetType() target type} differs from the
+ * one it was indexed under, e.g. because its {@link com.robinloom.jweaver.Weaves}
+ * annotation is out of date; the mismatch is logged.
+ */
+final class ServiceWeavers {
+
+    static final String INDEX = "META-INF/jweaver/type-weavers";
+
+    private final Map<String, List<ServiceLoader.Provider<TypeWeaver>>> pending;
+
+    private ServiceWeavers(Map<String, List<ServiceLoader.Provider<TypeWeaver>>> pending) {
+        this.pending = pending;
+    }
+
+    /**
+     * Locates all providers visible to the given class loader.
+     *
+     * @param loader the class loader to search
+     * @param register callback receiving providers that are not indexed
+     * @return the pending, indexed providers
+     */
+    static ServiceWeavers discover(ClassLoader loader, Consumer<TypeWeaver> register) {
+        Map<String, String> index = readIndex(loader);
+        Map<String, List<ServiceLoader.Provider<TypeWeaver>>> pending = new HashMap<>();
+
+        Iterator<ServiceLoader.Provider<TypeWeaver>> providers
+                = ServiceLoader.load(TypeWeaver.class, loader).stream().iterator();
+
+        while (true) {
+            ServiceLoader.Provider<TypeWeaver> provider;
+            try {
+                if (!providers.hasNext()) {
+                    break;
+                }
+                provider = providers.next();
+            } catch (ServiceConfigurationError e) {
+                continue;
+            }
+
+            String target = index.get(provider.type().getName());
+            if (target != null) {
+                pending.computeIfAbsent(target, _ -> new ArrayList<>(1)).add(provider);
+            } else {
+                TypeWeaver weaver = instantiate(provider);
+                if (weaver != null) {
+                    register.accept(weaver);
+                }
+            }
+        }
+
+        return new ServiceWeavers(pending);
+    }
+
+    /**
+     * Instantiates all pending providers targeting one of the given types.
+     *
+     * @param types the types a resolved class is assignable to
+     * @return the newly created weavers, in discovery order per type
+     */
+    synchronized List<TypeWeaver> load(Collection<Class<?>> types) {
+        if (pending.isEmpty()) {
+            return List.of();
+        }
+
+        List<TypeWeaver> loaded = new ArrayList<>();
+        for (Class<?> type : types) {
+            List<ServiceLoader.Provider<TypeWeaver>> providers = pending.remove(type.getName());
+            if (providers == null) {
+                continue;
+            }
+
+            for (ServiceLoader.Provider<TypeWeaver> provider : providers) {
+                TypeWeaver weaver = instantiate(provider);
+                if (weaver != null && matches(weaver, type)) {
+                    loaded.add(weaver);
+                }
+            }
+        }
+        return loaded;
+    }
+
+    private static boolean matches(TypeWeaver weaver, Class<?> indexed) {
+        if (weaver.targetType() == indexed) {
+            return true;
+        }
+
+        System.getLogger(ServiceWeavers.class.getName())
+              .log(System.Logger.Level.WARNING, "Skipping type weaver {0}: indexed for {1} but targets {2}",
+                   weaver.getClass().getName(), indexed.getName(), weaver.targetType().getName());
+        return false;
+    }
+
+    private static TypeWeaver instantiate(ServiceLoader.Provider<TypeWeaver> provider) {
+        try {
+            return provider.get();
+        } catch (ServiceConfigurationError e) {
+            return null;
+        }
+    }
+
+    /**
+     * Reads all index resources, mapping weaver class names to target type names.
+     */
+    private static Map<String, String> readIndex(ClassLoader loader) {
+        Map<String, String> index = new HashMap<>();
+        try {
+            Enumeration<URL> resources = loader.getResources(INDEX);
+            while (resources.hasMoreElements()) {
+                read(resources.nextElement(), index);
+            }
+        } catch (IOException e) {
+            // without an index all providers are loaded eagerly
+        }
+        return index;
+    }
+
+    private static void read(URL resource, Map<String, String> index) throws IOException {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.strip();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+
+                int separator = line.indexOf(' ');
+                if (separator > 0) {
+                    index.put(line.substring(separator + 1).strip(), line.substring(0, separator));
+                }
+            }
+        }
+    }
+}
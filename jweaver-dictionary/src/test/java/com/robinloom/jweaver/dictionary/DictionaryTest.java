@@ -0,0 +1,100 @@
+package com.robinloom.jweaver.dictionary;
+
+import com.robinloom.jweaver.TypeWeaver;
+import com.robinloom.jweaver.WeavingContext;
+import com.robinloom.jweaver.Weaves;
+import com.robinloom.jweaver.dictionary.java.lang.StringWeaver;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class DictionaryTest {
+
+    interface Shape {}
+    static class Circle implements Shape {}
+    static class Ring extends Circle {}
+    static class Square implements Shape {}
+    static class Unregistered {}
+
+    public static class Money {}
+    public static class Euro extends Money {}
+
+    @Weaves(Money.class)
+    public static class MoneyWeaver extends TypeWeaver {
+
+        static final AtomicInteger INSTANCES = new AtomicInteger();
+
+        public MoneyWeaver() {
+            INSTANCES.incrementAndGet();
+        }
+
+        @Override
+        public Class<?> targetType() {
+            return Money.class;
+        }
+
+        @Override
+        public String weave(Object object, WeavingContext ctx) {
+            return "money";
+        }
+    }
+
+    private static TypeWeaver weaver(Class<?> target, String output) {
+        return new TypeWeaver() {
+            @Override
+            public Class<?> targetType() {
+                return target;
+            }
+
+            @Override
+            public String weave(Object object, WeavingContext ctx) {
+                return output;
+            }
+        };
+    }
+
+    @Test
+    void testResolvesBuiltInWeavers() {
+        Dictionary dictionary = Dictionary.getInstance();
+
+        Assertions.assertInstanceOf(StringWeaver.class, dictionary.resolve(String.class));
+        Assertions.assertNotNull(dictionary.resolve(UUID.class));
+        Assertions.assertNull(dictionary.resolve(Unregistered.class));
+    }
+
+    @Test
+    void testRegistrationUpdatesAffectedTypesOnly() {
+        Dictionary dictionary = Dictionary.getInstance();
+        TypeWeaver shape = weaver(Shape.class, "shape");
+        TypeWeaver circle = weaver(Circle.class, "circle");
+
+        Assertions.assertNull(dictionary.resolve(Square.class));
+
+        Dictionary.register(shape);
+        Assertions.assertSame(shape, dictionary.resolve(Square.class));
+        Assertions.assertSame(shape, dictionary.resolve(Ring.class));
+
+        Dictionary.register(circle);
+        Assertions.assertSame(circle, dictionary.resolve(Ring.class), "More specific weaver must win");
+        Assertions.assertSame(shape, dictionary.resolve(Square.class), "Unrelated types must keep their weaver");
+
+        TypeWeaver later = weaver(Shape.class, "later");
+        Dictionary.register(later);
+        Assertions.assertSame(later, dictionary.resolve(Square.class), "Latest weaver for the same type must win");
+        Assertions.assertSame(circle, dictionary.resolve(Ring.class));
+    }
+
+    @Test
+    void testIndexedServiceIsLoadedOnFirstUse() {
+        Dictionary dictionary = Dictionary.getInstance();
+
+        dictionary.resolve(String.class);
+        Assertions.assertEquals(0, MoneyWeaver.INSTANCES.get(), "Indexed weaver must not be instantiated eagerly");
+
+        Assertions.assertInstanceOf(MoneyWeaver.class, dictionary.resolve(Euro.class));
+        Assertions.assertInstanceOf(MoneyWeaver.class, dictionary.resolve(Money.class));
+        Assertions.assertEquals(1, MoneyWeaver.INSTANCES.get());
+    }
+}
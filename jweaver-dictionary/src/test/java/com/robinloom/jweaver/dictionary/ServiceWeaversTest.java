@@ -0,0 +1,72 @@
+package com.robinloom.jweaver.dictionary;
+
+import com.robinloom.jweaver.TypeWeaver;
+import com.robinloom.jweaver.WeavingContext;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ServiceWeaversTest {
+
+    public static class IntegerWeaver extends TypeWeaver {
+
+        @Override
+        public Class<?> targetType() {
+            return Integer.class;
+        }
+
+        @Override
+        public String weave(Object object, WeavingContext ctx) {
+            return "integer";
+        }
+    }
+
+    public static class MislabeledWeaver extends TypeWeaver {
+
+        @Override
+        public Class<?> targetType() {
+            return String.class;
+        }
+
+        @Override
+        public String weave(Object object, WeavingContext ctx) {
+            return "string";
+        }
+    }
+
+    private static ClassLoader loader(Path root) throws IOException {
+        Path services = Files.createDirectories(root.resolve("META-INF/services"));
+        Files.writeString(services.resolve(TypeWeaver.class.getName()),
+                IntegerWeaver.class.getName() + "\n" + MislabeledWeaver.class.getName() + "\n");
+
+        Path index = root.resolve(ServiceWeavers.INDEX);
+        Files.createDirectories(index.getParent());
+        Files.writeString(index,
+                "java.lang.Integer " + IntegerWeaver.class.getName() + "\n"
+                        + "java.lang.Integer " + MislabeledWeaver.class.getName() + "\n");
+
+        return new URLClassLoader(new URL[] {root.toUri().toURL()}, ServiceWeaversTest.class.getClassLoader());
+    }
+
+    @Test
+    void testSkipsWeaverNotTargetingIndexedType(@TempDir Path root) throws IOException {
+        List<TypeWeaver> eager = new ArrayList<>();
+        ServiceWeavers services = ServiceWeavers.discover(loader(root), eager::add);
+
+        Assertions.assertTrue(eager.stream().noneMatch(w -> w instanceof IntegerWeaver || w instanceof MislabeledWeaver),
+                "Indexed weavers must not be registered eagerly");
+
+        List<TypeWeaver> loaded = services.load(List.of(Integer.class));
+        Assertions.assertEquals(1, loaded.size());
+        Assertions.assertInstanceOf(IntegerWeaver.class, loaded.getFirst());
+        Assertions.assertEquals(List.of(), services.load(List.of(Integer.class)));
+    }
+}
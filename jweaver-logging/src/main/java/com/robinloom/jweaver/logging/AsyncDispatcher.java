@@ -0,0 +1,289 @@
+/*
+ * Copyright (C) 2025 Robin Kösters
+ * mail[at]robinloom[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.robinloom.jweaver.logging;
+
+import com.robinloom.jweaver.JWeaver;
+import com.robinloom.jweaver.Mode;
+import org.slf4j.Logger;
+import org.slf4j.Marker;
+import org.slf4j.event.Level;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Moves weaving of log arguments off the logging thread.
+ * <p>
+ * Loggers obtained via {@link #wrap(Logger, Mode)} only check the level and
+ * capture a shallow snapshot of the event: the message pattern, the marker and
+ * a copy of the argument array. The snapshot is handed to background workers
+ * through a bounded ring buffer. The workers weave the arguments and call the
+ * delegate {@link Logger}. Arguments are woven in the state they have when a
+ * worker picks up the event, so they should not be mutated after logging.
+ * <p>
+ * When the buffer is full, the configured {@link OverflowPolicy} applies.
+ * Dropped and inline-woven events as well as the current queue depth are
+ * exposed as counters.
+ * <p>
+ * Events whose delivery fails on a worker, e.g. because the backend throws,
+ * are counted as failed. The first failure is reported through a
+ * {@link System.Logger}; the worker keeps running.
+ * <p>
+ * Since the delegate is called from a worker thread, backends derive caller
+ * data such as the thread name from the worker. Events are delivered in order
+ * only if a single worker is used.
+ * <p>
+ * A dispatcher can be shared by any number of loggers. Once {@link #close()
+ * closed}, the remaining events are delivered and all further events are woven
+ * on the logging thread.
+ */
+public final class AsyncDispatcher implements AutoCloseable {
+
+    private static final Event SHUTDOWN = new Event(null, null, null, null, null, null, null);
+
+    private final BlockingQueue<Event> buffer;
+    private final OverflowPolicy policy;
+    private final Thread[] workers;
+
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder wovenInline = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final AtomicBoolean failureReported = new AtomicBoolean();
+
+    private volatile boolean closed;
+
+    /**
+     * Creates a dispatcher and starts its workers.
+     *
+     * @param capacity the maximum number of buffered events
+     * @param workers the number of worker threads
+     * @param policy the behavior when the buffer is full
+     */
+    public AsyncDispatcher(int capacity, int workers, OverflowPolicy policy) {
+        if (capacity < 1 || workers < 1) {
+            throw new IllegalArgumentException("capacity and workers must be positive");
+        }
+
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.policy = policy;
+        this.workers = new Thread[workers];
+
+        for (int i = 0; i < workers; i++) {
+            this.workers[i] = Thread.ofPlatform()
+                                    .name("jweaver-async-" + i)
+                                    .daemon()
+                                    .start(this::work);
+        }
+    }
+
+    /**
+     * Returns a logger weaving its arguments on this dispatcher's workers.
+     *
+     * @param delegate the logger to write to
+     * @param mode the mode used for weaving arguments
+     * @return the asynchronous logger
+     */
+    public Logger wrap(Logger delegate, Mode mode) {
+        return new AsyncJWeaverLogger(delegate, mode, this);
+    }
+
+    /**
+     * Returns the number of events discarded because the buffer was full.
+     *
+     * @return the number of dropped events
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Returns the number of events woven on the logging thread because the
+     * buffer was full or the dispatcher was closed.
+     *
+     * @return the number of inline-woven events
+     */
+    public long getInlineCount() {
+        return wovenInline.sum();
+    }
+
+    /**
+     * Returns the number of events a worker failed to deliver.
+     *
+     * @return the number of failed events
+     */
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    /**
+     * Returns the number of events currently waiting in the buffer.
+     *
+     * @return the queue depth
+     */
+    public int getQueueDepth() {
+        return buffer.size();
+    }
+
+    /**
+     * Delivers all buffered events and stops the workers.
+     *
+     * @throws InterruptedException if interrupted while waiting for the workers
+     */
+    @Override
+    public void close() throws InterruptedException {
+        closed = true;
+
+        for (int i = 0; i < workers.length; i++) {
+            buffer.put(SHUTDOWN);
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        // events offered concurrently with closing
+        Event event;
+        while ((event = buffer.poll()) != null) {
+            if (event != SHUTDOWN) {
+                event.emit();
+            }
+        }
+    }
+
+    void dispatch(Logger delegate, Mode mode, Level level, Marker marker,
+                  String format, Object[] arguments, Throwable throwable) {
+        Object[] snapshot = arguments != null ? arguments.clone() : null;
+        Event event = new Event(delegate, mode, level, marker, format, snapshot, throwable);
+
+        if (closed) {
+            inline(event);
+            return;
+        }
+
+        if (buffer.offer(event)) {
+            return;
+        }
+
+        switch (policy) {
+            case DROP -> dropped.increment();
+            case WEAVE_INLINE -> inline(event);
+            case BLOCK -> {
+                try {
+                    while (!buffer.offer(event, 100, TimeUnit.MILLISECONDS)) {
+                        if (closed) {
+                            inline(event);
+                            return;
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    dropped.increment();
+                }
+            }
+        }
+    }
+
+    private void inline(Event event) {
+        wovenInline.increment();
+        event.emit();
+    }
+
+    private void work() {
+        while (true) {
+            Event event;
+            try {
+                event = buffer.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+
+            if (event == SHUTDOWN) {
+                return;
+            }
+
+            try {
+                event.emit();
+            } catch (RuntimeException e) {
+                // a failing backend must not stop the worker
+                fail(e);
+            }
+        }
+    }
+
+    private void fail(RuntimeException e) {
+        failed.increment();
+        if (failureReported.compareAndSet(false, true)) {
+            System.getLogger(AsyncDispatcher.class.getName())
+                  .log(System.Logger.Level.WARNING, "Failed to deliver log event; further failures are only counted", e);
+        }
+    }
+
+    private record Event(Logger delegate, Mode mode, Level level, Marker marker,
+                         String format, Object[] arguments, Throwable throwable) {
+
+        void emit() {
+            Object[] args = weave();
+
+            switch (level) {
+                case TRACE -> {
+                    if (marker != null) delegate.trace(marker, format, args);
+                    else delegate.trace(format, args);
+                }
+                case DEBUG -> {
+                    if (marker != null) delegate.debug(marker, format, args);
+                    else delegate.debug(format, args);
+                }
+                case INFO -> {
+                    if (marker != null) delegate.info(marker, format, args);
+                    else delegate.info(format, args);
+                }
+                case WARN -> {
+                    if (marker != null) delegate.warn(marker, format, args);
+                    else delegate.warn(format, args);
+                }
+                case ERROR -> {
+                    if (marker != null) delegate.error(marker, format, args);
+                    else delegate.error(format, args);
+                }
+            }
+        }
+
+        /**
+         * Weaves the arguments and appends the throwable, as expected by SLF4J.
+         */
+        private Object[] weave() {
+            int length = arguments != null ? arguments.length : 0;
+            Object[] args = new Object[throwable != null ? length + 1 : length];
+
+            for (int i = 0; i < length; i++) {
+                Object arg = arguments[i];
+                args[i] = switch (arg) {
+                    case null -> null;
+                    case String _, Throwable _ -> arg;
+                    default -> JWeaver.weave(arg, mode);
+                };
+            }
+
+            if (throwable != null) {
+                args[length] = throwable;
+            }
+            return args;
+        }
+    }
+}
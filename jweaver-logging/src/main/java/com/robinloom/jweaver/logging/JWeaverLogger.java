@@ -16,7 +16,6 @@
  */
 package com.robinloom.jweaver.logging;
 
-import com.robinloom.jweaver.JWeaver;
 import com.robinloom.jweaver.Mode;
 import org.slf4j.Logger;
 import org.slf4j.Marker;
@@ -25,6 +24,9 @@ import org.slf4j.Marker;
  * A wrapper class for {@link Logger}.
  * When formatting Strings, it will use the provided {@link com.robinloom.jweaver.Weaver}
  * to transform given object arguments into a pretty String representation.
+ * <p>
+ * Arguments are woven lazily, once the backend formats the message. Statements
+ * for disabled levels therefore do not pay for weaving.
  */
 public class JWeaverLogger implements Logger {
 
@@ -40,7 +42,7 @@ public class JWeaverLogger implements Logger {
         return switch (arg) {
             case null -> null;
             case String _, Throwable _ -> arg;
-            default -> JWeaver.weave(arg, mode);
+            default -> new WovenArgument(arg, mode);
         };
     }
 
@@ -0,0 +1,197 @@
+/*
+ * Copyright (C) 2025 Robin Kösters
+ * mail[at]robinloom[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.robinloom.jweaver.logging;
+
+import com.robinloom.jweaver.Mode;
+import com.robinloom.jweaver.TypeWeaver;
+import com.robinloom.jweaver.dictionary.Dictionary;
+import com.robinloom.jweaver.generated.GeneratedWeaver;
+import com.robinloom.jweaver.lang.ClassPlan;
+import com.robinloom.jweaver.lang.ExpansionPolicy;
+import com.robinloom.jweaver.lang.FieldPlan;
+import com.robinloom.jweaver.lang.TypeClassification;
+import org.slf4j.Logger;
+import org.slf4j.Marker;
+import org.slf4j.event.Level;
+import org.slf4j.helpers.AbstractLogger;
+import org.slf4j.spi.LoggingEventBuilder;
+
+/**
+ * {@link Logger} emitting the fields of woven arguments as key-value pairs.
+ * <p>
+ * Arguments that would be expanded into their fields are not squeezed into
+ * their placeholder. Instead, each top-level field, i.e. each child of the root
+ * of the argument's {@code ReflectiveNode} tree, is added to the event through
+ * the SLF4J fluent API, keyed by its rendered name. The placeholder itself
+ * receives the simple name of the argument's type. Other arguments are woven
+ * lazily as in {@link JWeaverLogger}.
+ * <p>
+ * Field values are read when the event is built:
+ * <ul>
+ *     <li>{@code null}, strings, numbers, booleans, characters and enums are passed as they are</li>
+ *     <li>sensitive fields are masked</li>
+ *     <li>all other values are passed as a {@link WovenArgument}, which is only
+ *     woven with the configured {@link Mode} once the backend formats the pair</li>
+ * </ul>
+ * Keys of several arguments are not prefixed, duplicates are passed on as they are.
+ */
+final class KeyValueJWeaverLogger extends AbstractLogger {
+
+    private static final String MASK = "***";
+    private static final String UNREADABLE = "[?]";
+
+    private final Logger logger;
+    private final Mode mode;
+
+    KeyValueJWeaverLogger(Logger logger, Mode mode) {
+        this.logger = logger;
+        this.mode = mode;
+        this.name = logger.getName();
+    }
+
+    @Override
+    protected String getFullyQualifiedCallerName() {
+        return null;
+    }
+
+    @Override
+    protected void handleNormalizedLoggingCall(Level level, Marker marker, String messagePattern,
+                                               Object[] arguments, Throwable throwable) {
+        LoggingEventBuilder event = logger.makeLoggingEventBuilder(level);
+
+        if (marker != null) {
+            event.addMarker(marker);
+        }
+
+        if (arguments != null) {
+            for (Object argument : arguments) {
+                if (isStructured(argument)) {
+                    event.addArgument(argument.getClass().getSimpleName());
+                    addFields(event, argument);
+                } else {
+                    event.addArgument(transform(argument));
+                }
+            }
+        }
+
+        if (throwable != null) {
+            event.setCause(throwable);
+        }
+
+        event.log(messagePattern);
+    }
+
+    private Object transform(Object arg) {
+        return switch (arg) {
+            case null -> null;
+            case String _, Throwable _ -> arg;
+            default -> new WovenArgument(arg, mode);
+        };
+    }
+
+    /**
+     * Checks whether the argument is rendered from its fields rather than by a type weaver.
+     */
+    private static boolean isStructured(Object argument) {
+        if (argument == null || argument instanceof Throwable) {
+            return false;
+        }
+
+        Class<?> type = argument.getClass();
+        if (ExpansionPolicy.classify(type) != TypeClassification.EXPAND) {
+            return false;
+        }
+
+        TypeWeaver weaver = Dictionary.getInstance().resolve(type);
+        return weaver == null || weaver instanceof GeneratedWeaver<?>;
+    }
+
+    private void addFields(LoggingEventBuilder event, Object argument) {
+        for (FieldPlan field : ClassPlan.of(argument.getClass()).getFields()) {
+            event.addKeyValue(field.getName(), value(field, argument));
+        }
+    }
+
+    private Object value(FieldPlan field, Object target) {
+        if (field.isSensitive()) {
+            return MASK;
+        }
+
+        Object value;
+        try {
+            value = field.getAccessor().get(target);
+        } catch (Exception e) {
+            return UNREADABLE;
+        }
+
+        return switch (value) {
+            case null -> null;
+            case String _, Number _, Boolean _, Character _, Enum<?> _ -> value;
+            default -> new WovenArgument(value, mode);
+        };
+    }
+
+    @Override
+    public boolean isTraceEnabled() {
+        return logger.isTraceEnabled();
+    }
+
+    @Override
+    public boolean isTraceEnabled(Marker marker) {
+        return logger.isTraceEnabled(marker);
+    }
+
+    @Override
+    public boolean isDebugEnabled() {
+        return logger.isDebugEnabled();
+    }
+
+    @Override
+    public boolean isDebugEnabled(Marker marker) {
+        return logger.isDebugEnabled(marker);
+    }
+
+    @Override
+    public boolean isInfoEnabled() {
+        return logger.isInfoEnabled();
+    }
+
+    @Override
+    public boolean isInfoEnabled(Marker marker) {
+        return logger.isInfoEnabled(marker);
+    }
+
+    @Override
+    public boolean isWarnEnabled() {
+        return logger.isWarnEnabled();
+    }
+
+    @Override
+    public boolean isWarnEnabled(Marker marker) {
+        return logger.isWarnEnabled(marker);
+    }
+
+    @Override
+    public boolean isErrorEnabled() {
+        return logger.isErrorEnabled();
+    }
+
+    @Override
+    public boolean isErrorEnabled(Marker marker) {
+        return logger.isErrorEnabled(marker);
+    }
+}
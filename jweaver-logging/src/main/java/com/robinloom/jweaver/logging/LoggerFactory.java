@@ -66,4 +66,27 @@ public class LoggerFactory {
         Logger delegate = org.slf4j.LoggerFactory.getLogger(name);
         return new JWeaverLogger(delegate, mode);
     }
+
+    /**
+     * Gets a {@link Logger} emitting the fields of object arguments as key-value pairs.
+     * @param clazz class to return the Logger for
+     * @param mode the Mode to use for printing nested objects
+     * @return the key-value Logger wrapping a SLF4J Logger
+     */
+    public static Logger getKeyValueLogger(Class<?> clazz, Mode mode) {
+        Logger delegate = org.slf4j.LoggerFactory.getLogger(clazz);
+        return new KeyValueJWeaverLogger(delegate, mode);
+    }
+
+    /**
+     * Gets a {@link Logger} weaving its arguments asynchronously on the given dispatcher.
+     * @param clazz class to return the Logger for
+     * @param mode the Mode to use for printing objects
+     * @param dispatcher the dispatcher running the weaving
+     * @return the asynchronous Logger wrapping a SLF4J Logger
+     */
+    public static Logger getLogger(Class<?> clazz, Mode mode, AsyncDispatcher dispatcher) {
+        Logger delegate = org.slf4j.LoggerFactory.getLogger(clazz);
+        return dispatcher.wrap(delegate, mode);
+    }
 }
@@ -0,0 +1,32 @@
+/*
+ * Copyright (C) 2025 Robin Kösters
+ * mail[at]robinloom[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.robinloom.jweaver.logging;
+
+/**
+ * Behavior of an {@link AsyncDispatcher} when its buffer is full.
+ */
+public enum OverflowPolicy {
+
+    /** Discards the log event and counts it as dropped. */
+    DROP,
+
+    /** Blocks the logging thread until the buffer has room. */
+    BLOCK,
+
+    /** Weaves and logs the event on the logging thread, bypassing the buffer. */
+    WEAVE_INLINE
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) 2025 Robin Kösters
+ * mail[at]robinloom[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.robinloom.jweaver.logging;
+
+import com.robinloom.jweaver.JWeaver;
+import com.robinloom.jweaver.Mode;
+
+/**
+ * Log argument that is woven on demand.
+ * <p>
+ * Logging backends only call {@link #toString()} when a message is actually
+ * formatted, so arguments of disabled log statements are never woven. The
+ * result is memoized, as a backend may format the same message more than once.
+ * <p>
+ * Concurrent calls may weave the value more than once, but always publish an
+ * equal, immutable result.
+ */
+final class WovenArgument {
+
+    private final Object value;
+    private final Mode mode;
+    private String woven;
+
+    WovenArgument(Object value, Mode mode) {
+        this.value = value;
+        this.mode = mode;
+    }
+
+    @Override
+    public String toString() {
+        String result = woven;
+        if (result == null) {
+            result = JWeaver.weave(value, mode);
+            woven = result;
+        }
+        return result;
+    }
+}
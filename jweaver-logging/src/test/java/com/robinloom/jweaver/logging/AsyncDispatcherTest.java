@@ -0,0 +1,158 @@
+package com.robinloom.jweaver.logging;
+
+import com.robinloom.jweaver.JWeaver;
+import com.robinloom.jweaver.Mode;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.Marker;
+import org.slf4j.event.Level;
+import org.slf4j.helpers.AbstractLogger;
+import org.slf4j.helpers.MessageFormatter;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+public class AsyncDispatcherTest {
+
+    record Payload(String id, int amount) {}
+
+    /**
+     * Records formatted messages; blocks worker threads until released.
+     */
+    static class RecordingLogger extends AbstractLogger {
+
+        final List<String> messages = new CopyOnWriteArrayList<>();
+        final List<String> threads = new CopyOnWriteArrayList<>();
+        final CountDownLatch release;
+
+        RecordingLogger(CountDownLatch release) {
+            this.release = release;
+            this.name = "recording";
+        }
+
+        @Override
+        protected String getFullyQualifiedCallerName() {
+            return null;
+        }
+
+        @Override
+        protected void handleNormalizedLoggingCall(Level level, Marker marker, String messagePattern,
+                                                   Object[] arguments, Throwable throwable) {
+            String thread = Thread.currentThread().getName();
+            if (thread.startsWith("jweaver-async")) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            String message = MessageFormatter.basicArrayFormat(messagePattern, arguments);
+            messages.add(level + " " + message + (throwable != null ? " !" + throwable.getMessage() : ""));
+            threads.add(thread);
+        }
+
+        @Override public boolean isTraceEnabled() { return true; }
+        @Override public boolean isTraceEnabled(Marker marker) { return true; }
+        @Override public boolean isDebugEnabled() { return true; }
+        @Override public boolean isDebugEnabled(Marker marker) { return true; }
+        @Override public boolean isInfoEnabled() { return true; }
+        @Override public boolean isInfoEnabled(Marker marker) { return true; }
+        @Override public boolean isWarnEnabled() { return true; }
+        @Override public boolean isWarnEnabled(Marker marker) { return true; }
+        @Override public boolean isErrorEnabled() { return true; }
+        @Override public boolean isErrorEnabled(Marker marker) { return true; }
+    }
+
+    @Test
+    void testWeavesOnWorker() throws InterruptedException {
+        RecordingLogger recorder = new RecordingLogger(new CountDownLatch(0));
+        Payload payload = new Payload("p-1", 3);
+
+        AsyncDispatcher dispatcher = new AsyncDispatcher(16, 1, OverflowPolicy.BLOCK);
+        Logger logger = dispatcher.wrap(recorder, Mode.INLINE);
+
+        logger.info("payload {}", payload);
+        logger.warn("failed {} {}", "step", payload, new IllegalStateException("boom"));
+        dispatcher.close();
+
+        Assertions.assertEquals(List.of("INFO payload " + JWeaver.weave(payload),
+                                        "WARN failed step " + JWeaver.weave(payload) + " !boom"),
+                                recorder.messages);
+        Assertions.assertTrue(recorder.threads.stream().allMatch(t -> t.startsWith("jweaver-async")));
+    }
+
+    @Test
+    void testCountsFailedEvents() throws InterruptedException {
+        RecordingLogger recorder = new RecordingLogger(new CountDownLatch(0)) {
+            @Override
+            protected void handleNormalizedLoggingCall(Level level, Marker marker, String messagePattern,
+                                                       Object[] arguments, Throwable throwable) {
+                if (messagePattern.startsWith("fail")) {
+                    throw new IllegalStateException("backend failure");
+                }
+                super.handleNormalizedLoggingCall(level, marker, messagePattern, arguments, throwable);
+            }
+        };
+
+        AsyncDispatcher dispatcher = new AsyncDispatcher(16, 1, OverflowPolicy.BLOCK);
+        Logger logger = dispatcher.wrap(recorder, Mode.INLINE);
+
+        logger.info("fail {}", 1);
+        logger.info("fail {}", 2);
+        logger.info("ok");
+        dispatcher.close();
+
+        Assertions.assertEquals(List.of("INFO ok"), recorder.messages);
+        Assertions.assertEquals(2, dispatcher.getFailedCount());
+        Assertions.assertEquals(0, dispatcher.getDroppedCount());
+    }
+
+    @Test
+    void testOverflowPolicies() throws InterruptedException {
+        Assertions.assertEquals(List.of(0L, 0L), overflow(OverflowPolicy.BLOCK, false));
+        Assertions.assertEquals(List.of(1L, 0L), overflow(OverflowPolicy.DROP, true));
+        Assertions.assertEquals(List.of(0L, 1L), overflow(OverflowPolicy.WEAVE_INLINE, true));
+    }
+
+    /**
+     * Logs three events into a single-slot buffer whose worker is blocked.
+     *
+     * @return the dropped and inline counts
+     */
+    private List<Long> overflow(OverflowPolicy policy, boolean overflowing) throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingLogger recorder = new RecordingLogger(release);
+
+        AsyncDispatcher dispatcher = new AsyncDispatcher(1, 1, policy);
+        Logger logger = dispatcher.wrap(recorder, Mode.INLINE);
+
+        logger.info("first");
+        while (dispatcher.getQueueDepth() > 0) {
+            Thread.onSpinWait();
+        }
+        logger.info("second");
+        Assertions.assertEquals(1, dispatcher.getQueueDepth());
+
+        if (overflowing) {
+            logger.info("third");
+            release.countDown();
+        } else {
+            Thread producer = Thread.ofPlatform().start(() -> logger.info("third"));
+            while (producer.getState() != Thread.State.TIMED_WAITING) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+            producer.join();
+        }
+
+        dispatcher.close();
+
+        int expected = policy == OverflowPolicy.DROP ? 2 : 3;
+        Assertions.assertEquals(expected, recorder.messages.size());
+
+        return List.of(dispatcher.getDroppedCount(), dispatcher.getInlineCount());
+    }
+}
@@ -1,7 +1,10 @@
 package com.robinloom.jweaver.logging;
 
+import com.robinloom.jweaver.JWeaver;
 import com.robinloom.jweaver.Mode;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.slf4j.Logger;
 
@@ -39,6 +42,28 @@ public class JWeaverLoggerTest {
         }
     }
 
+    static class Payload {
+        String state = "created";
+    }
+
+    @Test
+    void shouldWeaveArgumentsLazily() {
+        Logger delegate = Mockito.mock(Logger.class);
+        JWeaverLogger wrapper = new JWeaverLogger(delegate, Mode.INLINE);
+        Payload payload = new Payload();
+
+        wrapper.debug("payload {}", payload);
+
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(delegate).debug(Mockito.eq("payload {}"), captor.capture());
+
+        payload.state = "formatted";
+        String woven = captor.getValue().toString();
+
+        Assertions.assertEquals(JWeaver.weave(payload), woven, "Argument must be woven when formatted");
+        Assertions.assertSame(woven, captor.getValue().toString(), "Woven argument must be memoized");
+    }
+
     private Object[] createArguments(Class<?>[] parameterTypes) {
         return Arrays.stream(parameterTypes)
                 .map(this::dummy)
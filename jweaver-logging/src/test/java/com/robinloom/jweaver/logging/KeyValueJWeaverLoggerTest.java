@@ -0,0 +1,121 @@
+package com.robinloom.jweaver.logging;
+
+import com.robinloom.jweaver.Mode;
+import com.robinloom.jweaver.TypeWeaver;
+import com.robinloom.jweaver.WeavingContext;
+import com.robinloom.jweaver.dictionary.Dictionary;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.Marker;
+import org.slf4j.event.Level;
+import org.slf4j.event.LoggingEvent;
+import org.slf4j.helpers.AbstractLogger;
+import org.slf4j.helpers.MessageFormatter;
+import org.slf4j.spi.LoggingEventAware;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class KeyValueJWeaverLoggerTest {
+
+    record Address(String city) {}
+
+    record Customer(String name, int age, String password, Address address, Object note) {}
+
+    static final class Probe {}
+
+    record Order(int id, Probe probe) {}
+
+    static class EventRecorder extends AbstractLogger implements LoggingEventAware {
+
+        final List<LoggingEvent> events = new ArrayList<>();
+        boolean enabled = true;
+
+        EventRecorder() {
+            this.name = "events";
+        }
+
+        @Override
+        public void log(LoggingEvent event) {
+            events.add(event);
+        }
+
+        @Override
+        protected String getFullyQualifiedCallerName() {
+            return null;
+        }
+
+        @Override
+        protected void handleNormalizedLoggingCall(Level level, Marker marker, String messagePattern,
+                                                   Object[] arguments, Throwable throwable) {
+            throw new AssertionError("Events must be emitted through the fluent API");
+        }
+
+        @Override public boolean isTraceEnabled() { return enabled; }
+        @Override public boolean isTraceEnabled(Marker marker) { return enabled; }
+        @Override public boolean isDebugEnabled() { return enabled; }
+        @Override public boolean isDebugEnabled(Marker marker) { return enabled; }
+        @Override public boolean isInfoEnabled() { return enabled; }
+        @Override public boolean isInfoEnabled(Marker marker) { return enabled; }
+        @Override public boolean isWarnEnabled() { return enabled; }
+        @Override public boolean isWarnEnabled(Marker marker) { return enabled; }
+        @Override public boolean isErrorEnabled() { return enabled; }
+        @Override public boolean isErrorEnabled(Marker marker) { return enabled; }
+    }
+
+    @Test
+    void testFieldsAreEmittedAsKeyValues() {
+        EventRecorder recorder = new EventRecorder();
+        Logger logger = new KeyValueJWeaverLogger(recorder, Mode.INLINE);
+
+        Customer customer = new Customer("Jane", 42, "secret", new Address("Bonn"), null);
+        logger.info("registered {} in {}", customer, "shop");
+
+        LoggingEvent event = recorder.events.getFirst();
+        String message = MessageFormatter.basicArrayFormat(event.getMessage(), event.getArgumentArray());
+
+        Assertions.assertEquals("registered Customer in shop", message);
+        Assertions.assertEquals(List.of("name=Jane", "age=42", "password=***",
+                                        "address=Address[city=\"Bonn\"]", "note=null"),
+                                event.getKeyValuePairs().stream().map(kv -> kv.key + "=" + kv.value).toList());
+        Assertions.assertEquals(42, event.getKeyValuePairs().get(1).value, "Numbers must keep their type");
+    }
+
+    @Test
+    void testDisabledLevelEmitsNothing() {
+        EventRecorder recorder = new EventRecorder();
+        recorder.enabled = false;
+
+        new KeyValueJWeaverLogger(recorder, Mode.INLINE).debug("customer {}", new Address("Bonn"));
+
+        Assertions.assertTrue(recorder.events.isEmpty());
+    }
+
+    @Test
+    void testValuesAreNotWovenUntilFormatted() {
+        AtomicInteger woven = new AtomicInteger();
+        Dictionary.register(new TypeWeaver() {
+            @Override
+            public Class<?> targetType() {
+                return Probe.class;
+            }
+
+            @Override
+            public String weave(Object object, WeavingContext ctx) {
+                woven.incrementAndGet();
+                return "probe";
+            }
+        });
+
+        EventRecorder recorder = new EventRecorder();
+        new KeyValueJWeaverLogger(recorder, Mode.INLINE).info("order {}", new Order(7, new Probe()));
+
+        LoggingEvent event = recorder.events.getFirst();
+        Assertions.assertEquals(0, woven.get(), "Pairs the backend never formats must not be woven");
+
+        Assertions.assertEquals("probe", event.getKeyValuePairs().get(1).value.toString());
+        Assertions.assertEquals(1, woven.get());
+    }
+}
@@ -0,0 +1,317 @@
+/*
+ * Copyright (C) 2026 Robin Kösters
+ * mail[at]robinloom[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.robinloom.jweaver.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.*;
+
+/**
+ * Annotation processor generating reflection-free weavers for classes annotated
+ * with {@code @WeaveGenerate}.
+ * <p>
+ * For every annotated class a {@code <Class>_Weaver} is generated in the same
+ * package. It extends {@code GeneratedWeaver} and describes the rendered fields
+ * exactly as the reflective field extraction would: all declared, non-static
+ * fields in declaration order, except those annotated with {@code @WeaveIgnore}.
+ * Display names from {@code @WeaveName} and {@code @WeaveRedact} markers are
+ * resolved at compile time. Fields are read by direct access, through the
+ * record accessor, or through a getter if the field is private.
+ * <p>
+ * The generated weavers are added to
+ * {@code META-INF/services/com.robinloom.jweaver.TypeWeaver}, merged with any
+ * entries already present in the class output.
+ */
+@SupportedAnnotationTypes(WeaverGenerator.WEAVE_GENERATE)
+public class WeaverGenerator extends AbstractProcessor {
+
+    static final String WEAVE_GENERATE = "com.robinloom.jweaver.annotation.WeaveGenerate";
+    static final String WEAVE_IGNORE = "com.robinloom.jweaver.annotation.WeaveIgnore";
+    static final String WEAVE_NAME = "com.robinloom.jweaver.annotation.WeaveName";
+    static final String WEAVE_REDACT = "com.robinloom.jweaver.annotation.WeaveRedact";
+
+    static final String SERVICES = "META-INF/services/com.robinloom.jweaver.TypeWeaver";
+
+    private static final String GENERATED_WEAVER = "com.robinloom.jweaver.generated.GeneratedWeaver";
+    private static final String FIELD_PLAN = "com.robinloom.jweaver.lang.FieldPlan";
+    private static final String FIELD_ACCESSOR = "com.robinloom.jweaver.lang.FieldAccessor";
+
+    private final Set<String> generated = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+        TypeElement weaveGenerate = processingEnv.getElementUtils().getTypeElement(WEAVE_GENERATE);
+        if (weaveGenerate != null) {
+            for (TypeElement type : ElementFilter.typesIn(round.getElementsAnnotatedWith(weaveGenerate))) {
+                generate(type);
+            }
+        }
+
+        if (round.processingOver() && !generated.isEmpty()) {
+            writeServices();
+        }
+        return false;
+    }
+
+    private void generate(TypeElement type) {
+        if (type.getKind() != ElementKind.CLASS && type.getKind() != ElementKind.RECORD) {
+            error(type, "@WeaveGenerate requires a class or record");
+            return;
+        }
+        if (isPrivate(type)) {
+            error(type, "@WeaveGenerate requires a non-private class");
+            return;
+        }
+
+        List<String> fields = new ArrayList<>();
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            if (field.getModifiers().contains(Modifier.STATIC) || hasAnnotation(field, WEAVE_IGNORE)) {
+                continue;
+            }
+
+            String plan = fieldPlan(type, field);
+            if (plan == null) {
+                return;
+            }
+            fields.add(plan);
+        }
+
+        Elements elements = processingEnv.getElementUtils();
+        String packageName = elements.getPackageOf(type).getQualifiedName().toString();
+        String binaryName = elements.getBinaryName(type).toString();
+        String simpleName = binaryName.substring(packageName.isEmpty() ? 0 : packageName.length() + 1)
+                                      .replace('$', '_') + "_Weaver";
+        String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+
+        try {
+            JavaFileObject source = processingEnv.getFiler().createSourceFile(qualifiedName, type);
+            try (Writer writer = source.openWriter()) {
+                writer.write(render(packageName, simpleName, rawName(type), fields));
+            }
+            generated.add(qualifiedName);
+        } catch (IOException e) {
+            error(type, "Failed to generate " + qualifiedName + ": " + e.getMessage());
+        }
+    }
+
+    private String fieldPlan(TypeElement owner, VariableElement field) {
+        Types types = processingEnv.getTypeUtils();
+        Elements elements = processingEnv.getElementUtils();
+
+        String fieldName = field.getSimpleName().toString();
+        String displayName = annotationValue(field, WEAVE_NAME);
+        boolean redacted = hasAnnotation(field, WEAVE_REDACT);
+
+        String read = read(owner, field);
+        if (read == null) {
+            error(field, "Field is private and has no accessor; make it non-private or add a getter");
+            return null;
+        }
+
+        TypeMirror type = field.asType();
+        String literal = typeName(types.erasure(type)) + ".class";
+        String target = "((" + rawName(owner) + ") target)." + read;
+
+        return FIELD_PLAN + ".of(" + elements.getConstantExpression(fieldName) + ", "
+                + elements.getConstantExpression(displayName != null ? displayName : fieldName) + ", "
+                + literal + ", " + redacted + ", "
+                + FIELD_ACCESSOR + "." + accessorFactory(type.getKind()) + "(target -> " + target + "))";
+    }
+
+    private static String accessorFactory(TypeKind kind) {
+        return switch (kind) {
+            case INT -> "ofInt";
+            case LONG -> "ofLong";
+            case DOUBLE -> "ofDouble";
+            case FLOAT -> "ofFloat";
+            case SHORT -> "ofShort";
+            case BYTE -> "ofByte";
+            default -> "ofReference";
+        };
+    }
+
+    /**
+     * Returns the expression reading the field from a cast instance, or {@code null}.
+     */
+    private String read(TypeElement owner, VariableElement field) {
+        String name = field.getSimpleName().toString();
+
+        if (!field.getModifiers().contains(Modifier.PRIVATE)) {
+            return name;
+        }
+
+        if (owner.getKind() == ElementKind.RECORD) {
+            // record components always have a public accessor
+            return name + "()";
+        }
+
+        Types types = processingEnv.getTypeUtils();
+        String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        Set<String> candidates = Set.of("get" + capitalized, "is" + capitalized);
+
+        for (ExecutableElement method : ElementFilter.methodsIn(owner.getEnclosedElements())) {
+            if (candidates.contains(method.getSimpleName().toString())
+                    && method.getParameters().isEmpty()
+                    && !method.getModifiers().contains(Modifier.PRIVATE)
+                    && !method.getModifiers().contains(Modifier.STATIC)
+                    && types.isSameType(method.getReturnType(), field.asType())) {
+                return method.getSimpleName() + "()";
+            }
+        }
+
+        return null;
+    }
+
+    private String render(String packageName, String simpleName, String typeName, List<String> fields) {
+        StringBuilder sb = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            sb.append("package ").append(packageName).append(";\n\n");
+        }
+
+        sb.append("/**\n")
+          .append(" * Reflection-free weaver for {@link ").append(typeName).append("}.\n")
+          .append(" * <p>\n")
+          .append(" * Generated by jweaver-processor. Do not edit.\n")
+          .append(" */\n")
+          .append("@SuppressWarnings({\"rawtypes\", \"unchecked\"})\n")
+          .append("public final class ").append(simpleName)
+          .append(" extends ").append(GENERATED_WEAVER).append("<").append(typeName).append("> {\n\n")
+          .append("    public ").append(simpleName).append("() {\n")
+          .append("        super(").append(typeName).append(".class, java.util.List.of(");
+
+        for (int i = 0; i < fields.size(); i++) {
+            sb.append(i == 0 ? "\n" : ",\n").append("                ").append(fields.get(i));
+        }
+
+        sb.append("\n        ));\n")
+          .append("    }\n")
+          .append("}\n");
+        return sb.toString();
+    }
+
+    private void writeServices() {
+        Set<String> services = new TreeSet<>(generated);
+
+        try {
+            FileObject existing = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", SERVICES);
+            try (Reader reader = existing.openReader(true);
+                 BufferedReader lines = new BufferedReader(reader)) {
+                String line;
+                while ((line = lines.readLine()) != null) {
+                    line = line.strip();
+                    if (!line.isEmpty() && !line.startsWith("#")) {
+                        services.add(line);
+                    }
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            // no services declared yet
+        }
+
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", SERVICES);
+            try (Writer writer = file.openWriter()) {
+                for (String service : services) {
+                    writer.write(service + "\n");
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to write " + SERVICES + ": " + e.getMessage());
+        }
+    }
+
+    private static String rawName(TypeElement type) {
+        return type.getQualifiedName().toString();
+    }
+
+    /**
+     * Returns the source name of an erased type, without type annotations.
+     */
+    private static String typeName(TypeMirror type) {
+        return switch (type.getKind()) {
+            case DECLARED -> rawName((TypeElement) ((DeclaredType) type).asElement());
+            case ARRAY -> typeName(((ArrayType) type).getComponentType()) + "[]";
+            default -> type.getKind().name().toLowerCase(Locale.ROOT);
+        };
+    }
+
+    private static boolean isPrivate(TypeElement type) {
+        for (Element element = type; element instanceof TypeElement; element = element.getEnclosingElement()) {
+            if (element.getModifiers().contains(Modifier.PRIVATE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasAnnotation(Element element, String annotation) {
+        return find(element, annotation) != null;
+    }
+
+    private static String annotationValue(Element element, String annotation) {
+        AnnotationMirror mirror = find(element, annotation);
+        if (mirror == null) {
+            return null;
+        }
+
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> value
+                : mirror.getElementValues().entrySet()) {
+            if (value.getKey().getSimpleName().contentEquals("value")) {
+                return value.getValue().getValue().toString();
+            }
+        }
+        return null;
+    }
+
+    private static AnnotationMirror find(Element element, String annotation) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            TypeElement type = (TypeElement) mirror.getAnnotationType().asElement();
+            if (type.getQualifiedName().contentEquals(annotation)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (C) 2026 Robin Kösters
+ * mail[at]robinloom[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.robinloom.jweaver.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Annotation processor generating the index of {@code @Weaves} annotated type weavers.
+ * <p>
+ * Every annotated class is written to {@value #INDEX} as one line holding the
+ * binary name of the target type followed by the binary name of the weaver.
+ * At runtime the index allows the dictionary to defer loading a weaver until
+ * its target type is requested.
+ * <p>
+ * Annotated classes are validated to be public, concrete subclasses of
+ * {@code TypeWeaver} with a public no-argument constructor, as required by
+ * {@link java.util.ServiceLoader}.
+ */
+@SupportedAnnotationTypes(WeaverIndexProcessor.WEAVES)
+public class WeaverIndexProcessor extends AbstractProcessor {
+
+    /** Location of the generated index, relative to the class output. */
+    public static final String INDEX = "META-INF/jweaver/type-weavers";
+
+    static final String WEAVES = "com.robinloom.jweaver.Weaves";
+    static final String TYPE_WEAVER = "com.robinloom.jweaver.TypeWeaver";
+
+    private final Map<String, String> entries = new TreeMap<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+        TypeElement weaves = processingEnv.getElementUtils().getTypeElement(WEAVES);
+        if (weaves != null) {
+            for (TypeElement weaver : ElementFilter.typesIn(round.getElementsAnnotatedWith(weaves))) {
+                index(weaver);
+            }
+        }
+
+        if (round.processingOver() && !entries.isEmpty()) {
+            write();
+        }
+        return false;
+    }
+
+    private void index(TypeElement weaver) {
+        if (!isValid(weaver)) {
+            return;
+        }
+
+        TypeMirror target = targetOf(weaver);
+        if (target == null || target.getKind() != TypeKind.DECLARED) {
+            error(weaver, "@Weaves must declare a class or interface as target type");
+            return;
+        }
+
+        TypeElement targetElement = (TypeElement) ((DeclaredType) target).asElement();
+        String weaverName = binaryName(weaver);
+        entries.put(weaverName, binaryName(targetElement));
+    }
+
+    private boolean isValid(TypeElement weaver) {
+        TypeElement typeWeaver = processingEnv.getElementUtils().getTypeElement(TYPE_WEAVER);
+
+        if (weaver.getKind() != ElementKind.CLASS
+                || weaver.getModifiers().contains(Modifier.ABSTRACT)
+                || !weaver.getModifiers().contains(Modifier.PUBLIC)) {
+            error(weaver, "@Weaves requires a public, non-abstract class");
+            return false;
+        }
+
+        if (weaver.getNestingKind().isNested() && !weaver.getModifiers().contains(Modifier.STATIC)) {
+            error(weaver, "@Weaves requires a top-level or static nested class");
+            return false;
+        }
+
+        if (typeWeaver != null && !processingEnv.getTypeUtils()
+                .isSubtype(weaver.asType(), processingEnv.getTypeUtils().erasure(typeWeaver.asType()))) {
+            error(weaver, "@Weaves requires a subclass of " + TYPE_WEAVER);
+            return false;
+        }
+
+        boolean instantiable = ElementFilter.constructorsIn(weaver.getEnclosedElements()).stream()
+                .anyMatch(c -> c.getParameters().isEmpty() && c.getModifiers().contains(Modifier.PUBLIC));
+        if (!instantiable) {
+            error(weaver, "@Weaves requires a public no-argument constructor");
+            return false;
+        }
+
+        return true;
+    }
+
+    private TypeMirror targetOf(TypeElement weaver) {
+        for (AnnotationMirror annotation : weaver.getAnnotationMirrors()) {
+            Element type = annotation.getAnnotationType().asElement();
+            if (!((TypeElement) type).getQualifiedName().contentEquals(WEAVES)) {
+                continue;
+            }
+
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> value
+                    : annotation.getElementValues().entrySet()) {
+                if (value.getKey().getSimpleName().contentEquals("value")
+                        && value.getValue().getValue() instanceof TypeMirror target) {
+                    return target;
+                }
+            }
+        }
+        return null;
+    }
+
+    private void write() {
+        try {
+            FileObject index = processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", INDEX);
+
+            try (Writer writer = index.openWriter()) {
+                for (Map.Entry<String, String> entry : entries.entrySet()) {
+                    writer.write(entry.getValue() + " " + entry.getKey() + "\n");
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to write " + INDEX + ": " + e.getMessage());
+        }
+    }
+
+    private String binaryName(TypeElement element) {
+        return processingEnv.getElementUtils().getBinaryName(element).toString();
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
@@ -16,7 +16,10 @@
  */
 package com.robinloom.jweaver;
 
+import com.robinloom.jweaver.ast.ASTOptions;
+import com.robinloom.jweaver.diff.DiffWeaver;
 import com.robinloom.jweaver.inline.InlineWeaver;
+import com.robinloom.jweaver.json.JsonWeaver;
 import com.robinloom.jweaver.tree.TreeWeaver;
 
 /**
@@ -27,9 +30,10 @@ import com.robinloom.jweaver.tree.TreeWeaver;
  * rendering strategy for reflective object processing based on the requested
  * output mode.
  * <p>
- * Each invocation of {@link #resolve(Mode)} returns a {@link Weaver} instance
- * suitable for the given mode. Implementations are stateless and may be
- * created per call.
+ * Each invocation of {@link #resolve(Mode)} returns the shared {@link Weaver}
+ * instance for the given mode. The mode weavers are thread-safe; apart from
+ * the fingerprints kept for {@link Mode#DIFF}, all per-operation state is
+ * confined to the traversal.
  * <p>
  * This class follows a singleton pattern and is intended to be reused.
  */
@@ -43,12 +47,32 @@ public class ModeDispatcher implements ReflectionWeaverResolver {
         return Holder.INSTANCE;
     }
 
+    private volatile Weaver inlineWeaver = new InlineWeaver();
+    private volatile Weaver treeWeaver = new TreeWeaver();
+    private volatile DiffWeaver diffWeaver = new DiffWeaver();
+    private volatile Weaver jsonWeaver = new JsonWeaver();
+
     private ModeDispatcher() {}
 
     /**
-     * Returns a new {@link Weaver} instance suitable for the given mode.
+     * Replaces the traversal options used by all mode weavers.
+     * <p>
+     * Operations already in progress complete with the previous options. The
+     * history of {@link Mode#DIFF} is retained.
+     *
+     * @param options the options to apply to subsequent weaving operations
+     */
+    public void configure(ASTOptions options) {
+        inlineWeaver = new InlineWeaver(options);
+        treeWeaver = new TreeWeaver(options);
+        diffWeaver = diffWeaver.withOptions(options);
+        jsonWeaver = new JsonWeaver(options);
+    }
+
+    /**
+     * Returns the {@link Weaver} instance suitable for the given mode.
      * <p>
-     * The returned weaver is stateless and may be instantiated per call.
+     * The returned weaver is shared and safe for concurrent use.
      *
      * @param mode the mode to resolve a weaver for
      * @return a corresponding {@link Weaver} implementation
@@ -56,8 +80,10 @@ public class ModeDispatcher implements ReflectionWeaverResolver {
     @Override
     public Weaver resolve(Mode mode) {
         return switch (mode) {
-            case TREE -> new TreeWeaver();
-            case null, default -> new InlineWeaver();
+            case TREE -> treeWeaver;
+            case DIFF -> diffWeaver;
+            case JSON -> jsonWeaver;
+            case null, default -> inlineWeaver;
         };
     }
 }
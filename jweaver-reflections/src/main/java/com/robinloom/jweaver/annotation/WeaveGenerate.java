@@ -0,0 +1,51 @@
+/*
+ * Copyright (C) 2026 Robin Kösters
+ * mail[at]robinloom[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.robinloom.jweaver.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Requests a reflection-free weaver for a class, generated at compile time.
+ * <p>
+ * With {@code jweaver-processor} on the annotation processor path, a
+ * {@code <Class>_Weaver} is generated next to every annotated class. It reads
+ * the rendered fields directly, honoring {@link WeaveName}, {@link WeaveIgnore}
+ * and {@link WeaveRedact}, and is registered automatically. The output is the
+ * same as for reflective rendering.
+ * <p>
+ * Rendered fields must not be private, unless the class is a record or the
+ * field has a non-private getter.
+ *
+ * <pre>{@code
+ * @WeaveGenerate
+ * public class Order {
+ *     String id;
+ *
+ *     @WeaveRedact
+ *     String voucher;
+ * }
+ * }</pre>
+ *
+ * @since 4.2
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface WeaveGenerate {
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (C) 2026 Robin Kösters
+ * mail[at]robinloom[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.robinloom.jweaver.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a class whose instances never change their rendered representation.
+ * <p>
+ * When the rendering cache is enabled via {@code JWeaver.enableRenderCache},
+ * the output of annotated instances is cached by identity instead of being
+ * woven again. Only annotate classes whose fields, including everything
+ * reachable from them, are never modified after construction.
+ *
+ * <pre>{@code
+ * @WeaveImmutable
+ * public final class CountryCatalog {
+ *     private final List<Country> countries;
+ * }
+ * }</pre>
+ *
+ * @since 4.2
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface WeaveImmutable {
+}
@@ -28,21 +28,45 @@ package com.robinloom.jweaver.ast;
  *     <li><b>maxDepth</b> – maximum traversal depth before recursion stops</li>
  *     <li><b>maxSequenceLength</b> – maximum number of elements processed in sequences
  *     (collections, arrays, maps)</li>
+ *     <li><b>maxNodes</b> – maximum number of fields and elements visited by a single
+ *     weaving operation</li>
  * </ul>
  * <p>
+ * Setting <b>parallel</b> lets the traversal expand independent sibling subtrees
+ * concurrently on the common {@link java.util.concurrent.ForkJoinPool}. The
+ * output is identical to a sequential traversal; parallelism only pays off for
+ * large object graphs.
+ * <p>
  * When limits are reached, traversal is truncated and remaining elements are
- * omitted from the resulting tree.
+ * omitted from the resulting tree. Exhausting the node budget stops the whole
+ * traversal and is marked with {@value ReflectiveAST#TRUNCATION_MARKER}.
  * <p>
  * Instances of this class are immutable and can be safely reused.
  */
 public final class ASTOptions {
 
+    public static final int DEFAULT_MAX_DEPTH = 10;
+    public static final int DEFAULT_MAX_SEQUENCE_LENGTH = 10;
+    public static final int DEFAULT_MAX_NODES = 5000;
+
     private final int maxDepth;
     private final int maxSequenceLength;
+    private final int maxNodes;
+    private final boolean parallel;
 
     public ASTOptions(int maxDepth, int maxSequenceLength) {
+        this(maxDepth, maxSequenceLength, DEFAULT_MAX_NODES);
+    }
+
+    public ASTOptions(int maxDepth, int maxSequenceLength, int maxNodes) {
+        this(maxDepth, maxSequenceLength, maxNodes, false);
+    }
+
+    public ASTOptions(int maxDepth, int maxSequenceLength, int maxNodes, boolean parallel) {
         this.maxDepth = maxDepth;
         this.maxSequenceLength = maxSequenceLength;
+        this.maxNodes = maxNodes;
+        this.parallel = parallel;
     }
 
     public int getMaxDepth() {
@@ -53,7 +77,31 @@ public final class ASTOptions {
         return maxSequenceLength;
     }
 
+    public int getMaxNodes() {
+        return maxNodes;
+    }
+
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    public ASTOptions withMaxDepth(int maxDepth) {
+        return new ASTOptions(maxDepth, maxSequenceLength, maxNodes, parallel);
+    }
+
+    public ASTOptions withMaxSequenceLength(int maxSequenceLength) {
+        return new ASTOptions(maxDepth, maxSequenceLength, maxNodes, parallel);
+    }
+
+    public ASTOptions withMaxNodes(int maxNodes) {
+        return new ASTOptions(maxDepth, maxSequenceLength, maxNodes, parallel);
+    }
+
+    public ASTOptions withParallel(boolean parallel) {
+        return new ASTOptions(maxDepth, maxSequenceLength, maxNodes, parallel);
+    }
+
     public static ASTOptions defaultOptions() {
-        return new ASTOptions(10, 10);
+        return new ASTOptions(DEFAULT_MAX_DEPTH, DEFAULT_MAX_SEQUENCE_LENGTH, DEFAULT_MAX_NODES);
     }
 }
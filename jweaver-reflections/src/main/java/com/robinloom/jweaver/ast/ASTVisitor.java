@@ -0,0 +1,195 @@
+/*
+ * Copyright (C) 2026 Robin Kösters
+ * mail[at]robinloom[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.robinloom.jweaver.ast;
+
+import com.robinloom.jweaver.ast.nodes.*;
+import com.robinloom.jweaver.lang.FieldAccessor;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Receives the structure of an object graph while {@link ReflectiveAST} walks it.
+ * <p>
+ * Callbacks are issued in depth-first order and mirror the nodes of the
+ * reflective tree: leaf values correspond to {@link PropertyNode}s, objects to
+ * {@link ObjectNode}s, sequences to {@link SequenceNode}s and map entries to
+ * {@link MapEntryNode}s. Every {@code begin*} call is matched by the
+ * corresponding {@code end*} call, and everything reported in between are the
+ * children of that element.
+ * <p>
+ * Renderers that do not need lookahead implement this interface to emit output
+ * directly during traversal, without materializing the tree. The tree itself
+ * is built by a visitor as well (see {@link ReflectiveAST#build}).
+ * <p>
+ * If reading a field fails, the traversal {@link #rollback(long) rolls back} to
+ * a {@link #mark() mark} taken before the field, discarding everything reported
+ * for it, and reports a placeholder property instead.
+ */
+public interface ASTVisitor {
+
+    /**
+     * Reports a leaf value.
+     *
+     * @param name the field name or key, {@code null} for sequence elements
+     * @param index the position within the enclosing sequence, if any
+     * @param value the rendered value
+     */
+    void property(@Nullable String name, @Nullable Integer index, String value);
+
+    /**
+     * Reports a leaf value that was woven from an object.
+     * <p>
+     * Besides its rendering, the value itself is passed for visitors that
+     * emit typed output, e.g. to keep numbers unquoted. The default
+     * implementation delegates to {@link #property(String, Integer, String)}.
+     *
+     * @param name the field name or key, {@code null} for sequence elements
+     * @param index the position within the enclosing sequence, if any
+     * @param value the leaf value
+     * @param rendered the rendered value, {@code null} if the visitor
+     *                 {@link #writesRaw(Object) writes the value raw}
+     */
+    default void value(@Nullable String name, @Nullable Integer index, Object value, @Nullable String rendered) {
+        property(name, index, rendered);
+    }
+
+    /**
+     * Indicates whether the given leaf value is written from the value itself.
+     * <p>
+     * The traversal does not weave such values and passes {@code null} as
+     * their rendering to {@link #value(String, Integer, Object, String)}.
+     * The default implementation returns {@code false}.
+     *
+     * @param value the leaf value
+     * @return {@code true} if the visitor does not need the rendering
+     */
+    default boolean writesRaw(Object value) {
+        return false;
+    }
+
+    /**
+     * Reports a numeric primitive field without boxing its value.
+     * <p>
+     * The default implementation formats the number and delegates to
+     * {@link #property(String, Integer, String)}.
+     *
+     * @param name the field name
+     * @param accessor the numeric accessor of the field
+     * @param target the instance holding the field
+     */
+    default void number(String name, FieldAccessor accessor, Object target) {
+        property(name, null, accessor.formatNumber(target));
+    }
+
+    /**
+     * Reports an integral element of a primitive array without boxing it.
+     * <p>
+     * The default implementation formats the number and delegates to
+     * {@link #property(String, Integer, String)}.
+     *
+     * @param index the position within the array
+     * @param value the element, widened to {@code long}
+     */
+    default void element(int index, long value) {
+        property(null, index, Long.toString(value));
+    }
+
+    /**
+     * Reports a {@code float} element of a primitive array without boxing it.
+     *
+     * @param index the position within the array
+     * @param value the element
+     */
+    default void element(int index, float value) {
+        property(null, index, Float.toString(value));
+    }
+
+    /**
+     * Reports a {@code double} element of a primitive array without boxing it.
+     *
+     * @param index the position within the array
+     * @param value the element
+     */
+    default void element(int index, double value) {
+        property(null, index, Double.toString(value));
+    }
+
+    /**
+     * Reports that the node budget is exhausted and the output is truncated.
+     * <p>
+     * Called at most once per traversal, in place of the first field or
+     * element that no longer fits. The default implementation reports
+     * {@link ReflectiveAST#TRUNCATION_MARKER} as an unnamed property.
+     */
+    default void truncated() {
+        property(null, null, ReflectiveAST.TRUNCATION_MARKER);
+    }
+
+    /**
+     * Starts a complex object whose fields are reported as children.
+     *
+     * @param name the field name, {@code null} for sequence elements
+     * @param index the position within the enclosing sequence, if any
+     * @param type the runtime type of the object
+     */
+    void beginObject(@Nullable String name, @Nullable Integer index, Class<?> type);
+
+    /**
+     * Completes the current object.
+     */
+    void endObject();
+
+    /**
+     * Starts a sequence whose elements are reported as children.
+     *
+     * @param name the field name, {@code null} for sequence elements
+     * @param index the position within the enclosing sequence, if any
+     * @param type the normalized display type of the sequence
+     * @param size the total number of elements
+     */
+    void beginSequence(@Nullable String name, @Nullable Integer index, Class<?> type, int size);
+
+    /**
+     * Completes the current sequence.
+     */
+    void endSequence();
+
+    /**
+     * Starts a map entry whose value is reported as its single child.
+     *
+     * @param key the rendered key
+     */
+    void beginMapEntry(String key);
+
+    /**
+     * Completes the current map entry.
+     */
+    void endMapEntry();
+
+    /**
+     * Returns an opaque marker of the current position.
+     *
+     * @return a marker to pass to {@link #rollback(long)}
+     */
+    long mark();
+
+    /**
+     * Discards everything reported since the given marker was taken.
+     *
+     * @param mark a marker obtained from {@link #mark()} at the same nesting level
+     */
+    void rollback(long mark);
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (C) 2026 Robin Kösters
+ * mail[at]robinloom[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.robinloom.jweaver.ast;
+
+import com.robinloom.jweaver.ast.nodes.*;
+import com.robinloom.jweaver.lang.FieldAccessor;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link ASTVisitor} that materializes the traversal as a {@link ReflectiveNode} tree.
+ * <p>
+ * Used by {@link ReflectiveAST#build} for renderers that need the complete
+ * structure, e.g. to know whether a node is the last of its siblings.
+ * <p>
+ * Woven leaves and primitive numbers are recorded together with their raw
+ * value, so that replaying a recorded subtree reports them exactly as the
+ * traversal did.
+ */
+final class NodeTreeBuilder implements ASTVisitor {
+
+    private final List<ReflectiveNode> open = new ArrayList<>();
+    private ReflectiveNode root;
+
+    ReflectiveNode getRoot() {
+        return root;
+    }
+
+    @Override
+    public void property(@Nullable String name, @Nullable Integer index, String value) {
+        ReflectiveNode node = (name != null)
+                ? new PropertyNode(name, value)
+                : new PropertyNode(value);
+        attach(node, index);
+    }
+
+    @Override
+    public void value(@Nullable String name, @Nullable Integer index, Object value, String rendered) {
+        attach(new PropertyNode(name, rendered, value), index);
+    }
+
+    @Override
+    public void number(String name, FieldAccessor accessor, Object target) {
+        Object value;
+        try {
+            value = accessor.get(target);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+        attach(new PropertyNode(name, String.valueOf(value), value), null);
+    }
+
+    @Override
+    public void element(int index, long value) {
+        attach(new PropertyNode(null, Long.toString(value), value), index);
+    }
+
+    @Override
+    public void element(int index, float value) {
+        attach(new PropertyNode(null, Float.toString(value), value), index);
+    }
+
+    @Override
+    public void element(int index, double value) {
+        attach(new PropertyNode(null, Double.toString(value), value), index);
+    }
+
+    @Override
+    public void beginObject(@Nullable String name, @Nullable Integer index, Class<?> type) {
+        ReflectiveNode node = (name != null)
+                ? new ObjectNode(name, type)
+                : new ObjectNode(type);
+        attach(node, index);
+        open.add(node);
+    }
+
+    @Override
+    public void endObject() {
+        open.removeLast();
+    }
+
+    @Override
+    public void beginSequence(@Nullable String name, @Nullable Integer index, Class<?> type, int size) {
+        ReflectiveNode node = new SequenceNode(name, type, size);
+        attach(node, index);
+        open.add(node);
+    }
+
+    @Override
+    public void endSequence() {
+        open.removeLast();
+    }
+
+    @Override
+    public void beginMapEntry(String key) {
+        ReflectiveNode node = new MapEntryNode(key);
+        attach(node, null);
+        open.add(node);
+    }
+
+    @Override
+    public void endMapEntry() {
+        open.removeLast();
+    }
+
+    @Override
+    public long mark() {
+        int children = open.isEmpty() ? 0 : open.getLast().getChildren().size();
+        return ((long) open.size() << 32) | children;
+    }
+
+    @Override
+    public void rollback(long mark) {
+        int depth = (int) (mark >>> 32);
+        int children = (int) mark;
+
+        while (open.size() > depth) {
+            open.removeLast();
+        }
+
+        if (!open.isEmpty()) {
+            List<ReflectiveNode> siblings = open.getLast().getChildren();
+            while (siblings.size() > children) {
+                siblings.removeLast();
+            }
+        }
+    }
+
+    private void attach(ReflectiveNode node, @Nullable Integer index) {
+        if (index != null) {
+            node.setIndex(index);
+        }
+
+        if (open.isEmpty()) {
+            root = node;
+        } else {
+            open.getLast().addChild(node);
+        }
+    }
+}
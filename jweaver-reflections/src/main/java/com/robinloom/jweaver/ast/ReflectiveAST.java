@@ -17,22 +17,27 @@
 package com.robinloom.jweaver.ast;
 
 import com.robinloom.jweaver.TraversalContext;
+import com.robinloom.jweaver.TypeWeaver;
 import com.robinloom.jweaver.Weaver;
 import com.robinloom.jweaver.WeavingContext;
 import com.robinloom.jweaver.annotation.WeaveIgnore;
-import com.robinloom.jweaver.annotation.WeaveName;
 import com.robinloom.jweaver.ast.nodes.*;
 import com.robinloom.jweaver.lang.ExpansionPolicy;
-import com.robinloom.jweaver.lang.FieldExtractor;
+import com.robinloom.jweaver.lang.ClassPlan;
+import com.robinloom.jweaver.lang.FieldAccessor;
+import com.robinloom.jweaver.lang.FieldPlan;
 import com.robinloom.jweaver.lang.TypeNormalizer;
 import com.robinloom.jweaver.util.SensitivityDetection;
 
 import java.lang.reflect.Array;
-import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * Builds a reflective, acyclic object tree from arbitrary Java objects.
@@ -57,25 +62,56 @@ import java.util.Map;
  *     <li>Sensitive fields are masked via {@link SensitivityDetection}.</li>
  * </ul>
  * <p>
- * The traversal is stateful but scoped to a single {@link #build(Object, WeavingContext)}
- * invocation. A new traversal always resets the internal {@link TraversalContext}.
+ * Field metadata is resolved once per class and shared through {@link ClassPlan}.
  * <p>
- * This class is intentionally not thread-safe and is expected to be used per
- * weaving operation.
+ * If {@link ASTOptions#isParallel()} is set, sibling subtrees of an object or a
+ * sequence are expanded concurrently on the common {@code ForkJoinPool} and
+ * stitched back together in order. Each subtree runs on a fork of the
+ * {@link TraversalContext}, which keeps the output deterministic and identical
+ * to a sequential traversal.
+ * <p>
+ * Primitive arrays are read in place: only the elements that are actually
+ * rendered are accessed, and numeric elements are reported without boxing.
+ * Object arrays are iterated through a list view instead of being copied.
+ * Numeric primitive fields and elements are boxed and woven like any other
+ * value if a {@code TypeWeaver} is registered for their wrapper type, see
+ * {@link #weavesBoxed(Class, WeavingContext)}.
+ * <p>
+ * Every visited field and sequence element consumes one unit of the node budget
+ * configured via {@link ASTOptions#getMaxNodes()}. Once it is exhausted, no
+ * further fields are read and no further elements are iterated; the visitor is
+ * {@linkplain ASTVisitor#truncated() notified} and the enclosing structures are
+ * closed.
+ * <p>
+ * The traversal itself reports to an {@link ASTVisitor}. {@link #build(Object, WeavingContext)}
+ * materializes the events as a node tree, while streaming renderers consume them
+ * directly via {@link #traverse(Object, WeavingContext, ASTVisitor)}.
+ * <p>
+ * The class itself is stateless and thread-safe. The mutable traversal state
+ * lives in a {@link TraversalContext} that is pooled per thread and claimed
+ * for the duration of a single traversal. The claimed context travels with
+ * the {@link WeavingContext}, so objects woven from within the traversal,
+ * e.g. by a {@code TypeWeaver}, continue it rather than starting a new one.
+ * Unrelated traversals started re-entrantly while the pooled context is in
+ * use get a fresh context of their own.
  */
 public class ReflectiveAST {
 
+    /**
+     * Rendered in place of the remaining output once the node budget is exhausted.
+     */
+    public static final String TRUNCATION_MARKER = "...";
+
     private final ASTOptions options;
-    private final TraversalContext traversalContext;
+    private final ThreadLocal<TraversalContext> traversalContexts;
 
     public ReflectiveAST() {
-        this.options = ASTOptions.defaultOptions();
-        this.traversalContext = new TraversalContext(options.getMaxDepth());
+        this(ASTOptions.defaultOptions());
     }
 
-    ReflectiveAST(ASTOptions options) {
+    public ReflectiveAST(ASTOptions options) {
         this.options = options;
-        this.traversalContext = new TraversalContext(options.getMaxDepth());
+        this.traversalContexts = ThreadLocal.withInitial(this::newTraversal);
     }
 
     /**
@@ -91,185 +127,599 @@ public class ReflectiveAST {
                 return new PropertyNode("root", "null");
             }
 
-            traversalContext.reset();
-            return toNode(object.getClass().getSimpleName(), object, ctx);
+            NodeTreeBuilder builder = new NodeTreeBuilder();
+            traverse(object, ctx, builder);
+            return builder.getRoot();
 
         } catch (Throwable t) {
             return new PropertyNode("root", "[error]");
         }
     }
 
-    private ReflectiveNode toNode(String name, Object value, WeavingContext ctx) {
+    /**
+     * Walks the given object and reports its structure to a visitor.
+     * <p>
+     * Unlike {@link #build(Object, WeavingContext)}, failures that cannot be
+     * attributed to a single field are propagated to the caller, which is
+     * responsible for discarding any partial output of the visitor.
+     *
+     * @param object the root object to inspect
+     * @param ctx the weaving context used for value transformation
+     * @param visitor the visitor receiving the traversal events
+     */
+    public void traverse(Object object, WeavingContext ctx, ASTVisitor visitor) {
+        String name = object.getClass().getSimpleName();
+
+        TraversalContext active = ctx.getTraversal();
+        if (active != null) {
+            root(active, name, object, ctx, visitor);
+            return;
+        }
+
+        TraversalContext traversal = acquireTraversal();
+        ctx.setTraversal(traversal);
+        try {
+            root(traversal, name, object, ctx, visitor);
+        } finally {
+            ctx.setTraversal(null);
+            traversal.release();
+        }
+    }
+
+    /**
+     * Acquires a traversal state for a new top-level traversal.
+     * <p>
+     * The per-thread pooled context is returned if it is not in use, otherwise
+     * a fresh one is created. The caller must {@link TraversalContext#release()
+     * release} the returned context once the traversal has completed.
+     *
+     * @return a claimed, empty traversal context
+     */
+    public TraversalContext acquireTraversal() {
+        TraversalContext pooled = traversalContexts.get();
+        if (pooled.claim()) {
+            return pooled;
+        }
+
+        TraversalContext fresh = newTraversal();
+        fresh.claim();
+        return fresh;
+    }
+
+    private TraversalContext newTraversal() {
+        return new TraversalContext(options.getMaxDepth(), options.getMaxNodes());
+    }
+
+    private void root(TraversalContext traversal, String name, Object object,
+                      WeavingContext ctx, ASTVisitor visitor) {
+        if (!traversal.consume()) {
+            traversal.truncate();
+            visitor.truncated();
+            return;
+        }
+
+        // a root entry has no enclosing map that names its value
+        if (object instanceof Map.Entry<?, ?> entry) {
+            visitor.beginMapEntry(entryKey(entry, ctx));
+            sequenceItem(traversal, entry.getValue(), null, ctx, visitor);
+            visitor.endMapEntry();
+            return;
+        }
+
+        visit(traversal, name, null, object, ctx, visitor);
+    }
+
+    /**
+     * Consumes budget for the next field or element.
+     * <p>
+     * If the budget is exhausted, the truncation marker is reported once for
+     * the whole traversal and the caller is expected to stop.
+     */
+    private boolean admit(TraversalContext traversal, ASTVisitor visitor) {
+        if (traversal.consume()) {
+            return true;
+        }
+
+        if (traversal.truncate()) {
+            visitor.truncated();
+        }
+        return false;
+    }
+
+    private void visit(TraversalContext traversal, String name, Integer index, Object value,
+                       WeavingContext ctx, ASTVisitor visitor) {
         if (value == null) {
-            return new PropertyNode(name, "null");
+            visitor.property(name, index, "null");
+            return;
         }
 
         Class<?> type = value.getClass();
 
-        // --- Blacklisted types ---
-        if (ExpansionPolicy.shouldNotExpand(type)) {
-            return new PropertyNode(name, ctx.weave(value));
+        switch (ExpansionPolicy.classify(type)) {
+            case CONTAINER -> {
+                if (!container(traversal, name, index, value, ctx, visitor)) {
+                    complexObject(traversal, name, index, value, ctx, visitor);
+                }
+            }
+            case EXPAND -> complexObject(traversal, name, index, value, ctx, visitor);
+
+            // --- Blacklisted types ---
+            default -> leaf(name, index, value, ctx, visitor);
         }
+    }
+
+    /**
+     * Reports a leaf value, weaving it only if the visitor needs its rendering.
+     */
+    private static void leaf(String name, Integer index, Object value, WeavingContext ctx, ASTVisitor visitor) {
+        visitor.value(name, index, value, visitor.writesRaw(value) ? null : ctx.weave(value));
+    }
 
+    private boolean container(TraversalContext traversal, String name, Integer index, Object value,
+                              WeavingContext ctx, ASTVisitor visitor) {
         // --- Collection ---
         if (value instanceof Collection<?> collection) {
-            return collection(name, collection, ctx);
+            collection(traversal, name, index, collection, ctx, visitor);
+            return true;
         }
 
         // --- Array ---
-        if (type.isArray()) {
-            return array(name, value, ctx);
+        if (value.getClass().isArray()) {
+            array(traversal, name, index, value, ctx, visitor);
+            return true;
         }
 
         // --- Map ---
         if (value instanceof Map<?, ?> map) {
-            return map(name, map, ctx);
+            map(traversal, name, index, map, ctx, visitor);
+            return true;
         }
 
         // --- Map.Entry ---
         if (value instanceof Map.Entry<?, ?> entry) {
-            return mapEntry(entry, ctx);
+            mapEntry(traversal, entry, ctx, visitor);
+            return true;
         }
 
-        // --- Complex Object ---
-        ReflectiveNode node = (name != null)
-                ? new ObjectNode(name, type)
-                : new ObjectNode(type);
+        // Other iterables are expanded like regular objects
+        return false;
+    }
 
-        return object(node, value, ctx);
+    private void complexObject(TraversalContext traversal, String name, Integer index, Object value,
+                               WeavingContext ctx, ASTVisitor visitor) {
+        visitor.beginObject(name, index, value.getClass());
+        object(traversal, value, ctx, visitor);
+        visitor.endObject();
     }
 
-    private ReflectiveNode object(ReflectiveNode root, Object object, WeavingContext ctx) {
-        if (!traversalContext.enter(object)) {
-            return root;
+    private void object(TraversalContext traversal, Object object, WeavingContext ctx, ASTVisitor visitor) {
+        if (!traversal.enter(object)) {
+            return;
         }
 
-        List<Field> fields = new FieldExtractor().extract(object.getClass());
-
         try {
-            for (Field field : fields) {
+            List<FieldPlan> fields = ClassPlan.of(object.getClass()).getFields();
+            Fork[] forks = options.isParallel() ? forkFields(traversal, object, fields, ctx) : null;
+
+            for (int i = 0; i < fields.size(); i++) {
+                FieldPlan field = fields.get(i);
+
+                if (!admit(traversal, visitor)) {
+                    break;
+                }
+
+                long mark = visitor.mark();
                 try {
-                    Object value = readField(field, object);
+                    if (forks != null && forks[i] != null) {
+                        forks[i].stitch(traversal, ctx, visitor);
+                        continue;
+                    }
 
-                    String fieldName;
-                    if (field.isAnnotationPresent(WeaveName.class)) {
-                        fieldName = field.getAnnotation(WeaveName.class).value();
-                    } else {
-                        fieldName = field.getName();
+                    String fieldName = field.getName();
+                    FieldAccessor accessor = field.getAccessor();
+
+                    if (accessor.isPrimitiveNumber() && !weavesBoxed(field.getType(), ctx)) {
+                        if (field.isSensitive()) {
+                            visitor.property(fieldName, null, "***");
+                        } else {
+                            visitor.number(fieldName, accessor, object);
+                        }
+                        continue;
                     }
 
+                    Object value = accessor.get(object);
+
                     if (value == null) {
-                        root.addChild(new PropertyNode(fieldName, "null"));
+                        visitor.property(fieldName, null, "null");
+                        continue;
+                    }
+
+                    if (field.isSensitive()) {
+                        visitor.property(fieldName, null, "***");
                         continue;
                     }
 
-                    if (SensitivityDetection.isSensitive(field)) {
-                        root.addChild(new PropertyNode(fieldName, "***"));
+                    if (field.isLeaf()) {
+                        leaf(fieldName, null, value, ctx, visitor);
                         continue;
                     }
 
-                    ReflectiveNode child = toNode(fieldName, value, ctx);
-                    root.addChild(child);
+                    visit(traversal, fieldName, null, value, ctx, visitor);
                 } catch (Exception e) {
-                    root.addChild(new PropertyNode("[?]", "[?]"));
+                    visitor.rollback(mark);
+                    visitor.property("[?]", null, "[?]");
                 }
             }
         } finally {
-            traversalContext.exit(object);
+            traversal.exit(object);
         }
-
-        return root;
     }
 
-    private ReflectiveNode collection(String fieldName, Collection<?> collection, WeavingContext ctx) {
-        return sequence(fieldName, collection, collection.size(), TypeNormalizer.normalize(collection.getClass()), ctx);
+    private void collection(TraversalContext traversal, String fieldName, Integer index,
+                            Collection<?> collection, WeavingContext ctx, ASTVisitor visitor) {
+        sequence(traversal, fieldName, index, collection, collection.size(),
+                TypeNormalizer.normalize(collection.getClass()), ctx, visitor);
     }
 
-    private ReflectiveNode array(String fieldName, Object array, WeavingContext ctx) {
+    private void array(TraversalContext traversal, String fieldName, Integer index, Object array,
+                       WeavingContext ctx, ASTVisitor visitor) {
+        Class<?> displayType = TypeNormalizer.normalize(array.getClass());
+
+        if (array instanceof Object[] objects) {
+            sequence(traversal, fieldName, index, Arrays.asList(objects), objects.length,
+                    displayType, ctx, visitor);
+            return;
+        }
+
         int length = Array.getLength(array);
+        boolean boxed = weavesBoxed(array.getClass().getComponentType(), ctx);
+        visitor.beginSequence(fieldName, index, displayType, length);
 
-        List<Object> listView = new ArrayList<>(length);
-        for (int i = 0; i < length; i++) {
-            listView.add(Array.get(array, i));
+        if (traversal.enter(array)) {
+            try {
+                for (int i = 0; i < length; i++) {
+
+                    if (!admit(traversal, visitor)) {
+                        break;
+                    }
+
+                    if (i >= options.getMaxSequenceLength()) {
+                        visitor.property(null, i, (length - i) + " more");
+                        break;
+                    }
+
+                    if (boxed) {
+                        leaf(null, i, Array.get(array, i), ctx, visitor);
+                    } else {
+                        element(array, i, ctx, visitor);
+                    }
+                }
+            } finally {
+                traversal.exit(array);
+            }
         }
 
-        return sequence(fieldName, listView, length, TypeNormalizer.normalize(array.getClass()), ctx);
+        visitor.endSequence();
+    }
+
+    /**
+     * Reports a single element of a primitive array.
+     * <p>
+     * Numeric elements are reported without boxing. {@code boolean} and
+     * {@code char} elements are boxed and woven like any other value so that
+     * their dictionary representation applies.
+     */
+    private static void element(Object array, int i, WeavingContext ctx, ASTVisitor visitor) {
+        switch (array) {
+            case int[] values -> visitor.element(i, (long) values[i]);
+            case long[] values -> visitor.element(i, values[i]);
+            case double[] values -> visitor.element(i, values[i]);
+            case float[] values -> visitor.element(i, values[i]);
+            case short[] values -> visitor.element(i, (long) values[i]);
+            case byte[] values -> visitor.element(i, (long) values[i]);
+            case char[] values -> leaf(null, i, values[i], ctx, visitor);
+            case boolean[] values -> leaf(null, i, values[i], ctx, visitor);
+            default -> throw new IllegalArgumentException("Not a primitive array: " + array.getClass());
+        }
     }
 
-    private ReflectiveNode map(String fieldName, Map<?, ?> map, WeavingContext ctx) {
-        return sequence(fieldName, map.entrySet(), map.size(), TypeNormalizer.normalize(map.getClass()), ctx);
+    private void map(TraversalContext traversal, String fieldName, Integer index, Map<?, ?> map,
+                     WeavingContext ctx, ASTVisitor visitor) {
+        sequence(traversal, fieldName, index, map.entrySet(), map.size(),
+                TypeNormalizer.normalize(map.getClass()), ctx, visitor);
     }
 
-    private ReflectiveNode mapEntry(Map.Entry<?, ?> entry, WeavingContext ctx) {
-        String key;
+    private void mapEntry(TraversalContext traversal, Map.Entry<?, ?> entry, WeavingContext ctx, ASTVisitor visitor) {
+        String key = entryKey(entry, ctx);
         Object value = entry.getValue();
 
-        if (ExpansionPolicy.shouldNotExpand(entry.getKey().getClass())) {
-            key = ctx.weave(entry.getKey());
-        } else {
-            key = entry.getKey().toString();
-        }
-
         if (value == null) {
-            return new PropertyNode(key, "null");
+            visitor.property(key, null, "null");
+            return;
         }
 
         if (ExpansionPolicy.shouldNotExpand(value.getClass()) ) {
-            return new PropertyNode(key, ctx.weave(value));
+            leaf(key, null, value, ctx, visitor);
+            return;
         }
 
-        ReflectiveNode node = new MapEntryNode(key);
+        visitor.beginMapEntry(key);
+        sequenceItem(traversal, value, null, ctx, visitor);
+        visitor.endMapEntry();
+    }
 
-        sequenceItem(node, entry.getValue(), null, ctx);
+    private static String entryKey(Map.Entry<?, ?> entry, WeavingContext ctx) {
+        if (ExpansionPolicy.shouldNotExpand(entry.getKey().getClass())) {
+            return ctx.weave(entry.getKey());
+        }
+        return entry.getKey().toString();
+    }
+
+    private void sequence(TraversalContext traversal, String fieldName, Integer index,
+                          Iterable<?> iterable, int size, Class<?> displayType,
+                          WeavingContext ctx, ASTVisitor visitor) {
+
+        visitor.beginSequence(fieldName, index, displayType, size);
+
+        if (traversal.enter(iterable)) {
+            try {
+                if (options.isParallel()) {
+                    parallelSequence(traversal, iterable, size, ctx, visitor);
+                } else {
+                    int i = 0;
+                    for (Object item : iterable) {
+
+                        if (!admit(traversal, visitor)) {
+                            break;
+                        }
+
+                        if (i >= options.getMaxSequenceLength()) {
+                            visitor.property(null, i, (size - i) + " more");
+                            break;
+                        }
+
+                        sequenceItem(traversal, item, i, ctx, visitor);
+                        i++;
+                    }
+                }
+            } finally {
+                traversal.exit(iterable);
+            }
+        }
 
-        return node;
+        visitor.endSequence();
     }
 
-    private ReflectiveNode sequence(String fieldName, Iterable<?> iterable, int size,
-                                    Class<?> displayType, WeavingContext ctx) {
+    private void sequenceItem(TraversalContext traversal, Object item, Integer index,
+                              WeavingContext ctx, ASTVisitor visitor) {
+        if (item == null) {
+            visitor.property(null, index, "null");
+            return;
+        }
 
-        ReflectiveNode root = new SequenceNode(fieldName, displayType, size);
+        Integer itemIndex = (item instanceof Map.Entry) ? null : index;
+        visit(traversal, null, itemIndex, item, ctx, visitor);
+    }
 
-        if (!traversalContext.enter(iterable)) {
-            return root;
+    private void parallelSequence(TraversalContext traversal, Iterable<?> iterable, int size,
+                                  WeavingContext ctx, ASTVisitor visitor) {
+        int limit = options.getMaxSequenceLength();
+
+        List<Object> items = new ArrayList<>();
+        Iterator<?> iterator = iterable.iterator();
+        while (items.size() <= limit && iterator.hasNext()) {
+            items.add(iterator.next());
         }
 
-        int i = 0;
-        for (Object item : iterable) {
+        Fork[] forks = null;
+        int count = 0;
+        for (int i = 0; i < Math.min(items.size(), limit); i++) {
+            Object item = items.get(i);
+            if (isExpandable(item)) {
+                if (forks == null) {
+                    forks = new Fork[limit];
+                }
+                Integer itemIndex = (item instanceof Map.Entry) ? null : i;
+                forks[i] = new Fork(traversal, null, itemIndex, item, ctx);
+                count++;
+            }
+        }
+        forks = invoke(forks, count);
 
-            if (i >= options.getMaxSequenceLength()) {
-                ReflectiveNode child = new PropertyNode((size - i) + " more");
-                child.setIndex(i);
+        for (int i = 0; i < items.size(); i++) {
+            if (!admit(traversal, visitor)) {
+                break;
+            }
 
-                root.addChild(child);
+            if (i >= limit) {
+                visitor.property(null, i, (size - i) + " more");
                 break;
             }
 
-            sequenceItem(root, item, i, ctx);
-            i++;
+            if (forks != null && forks[i] != null) {
+                forks[i].stitch(traversal, ctx, visitor);
+            } else {
+                sequenceItem(traversal, items.get(i), i, ctx, visitor);
+            }
+        }
+    }
+
+    private Fork[] forkFields(TraversalContext traversal, Object object, List<FieldPlan> fields, WeavingContext ctx) {
+        Fork[] forks = null;
+        int count = 0;
+
+        for (int i = 0; i < fields.size(); i++) {
+            FieldPlan field = fields.get(i);
+            if (field.isLeaf() || field.isSensitive()) {
+                continue;
+            }
+
+            Object value;
+            try {
+                value = field.getAccessor().get(object);
+            } catch (Exception e) {
+                continue;
+            }
+
+            if (isExpandable(value)) {
+                if (forks == null) {
+                    forks = new Fork[fields.size()];
+                }
+                forks[i] = new Fork(traversal, field.getName(), null, value, ctx);
+                count++;
+            }
         }
 
-        traversalContext.exit(iterable);
-        return root;
+        return invoke(forks, count);
     }
 
-    private void sequenceItem(ReflectiveNode root, Object item, Integer index, WeavingContext ctx) {
-        if (item == null) {
-            ReflectiveNode node = new PropertyNode("null");
-            node.setIndex(index);
-            root.addChild(node);
-            return;
+    private static Fork[] invoke(Fork[] forks, int count) {
+        if (count < 2) {
+            return null;
+        }
+
+        List<Fork> tasks = new ArrayList<>(count);
+        for (Fork fork : forks) {
+            if (fork != null) {
+                tasks.add(fork);
+            }
+        }
+
+        ForkJoinTask.invokeAll(tasks);
+        return forks;
+    }
+
+    private static boolean isExpandable(Object value) {
+        return value != null && !ExpansionPolicy.shouldNotExpand(value.getClass());
+    }
+
+    /**
+     * Checks whether values of a numeric primitive type must be boxed and woven.
+     * <p>
+     * This is the case if a {@link TypeWeaver} registered for the wrapper type
+     * or one of its supertypes other than {@code Object} is resolved, so that it
+     * applies to primitive values just as it does to boxed ones. Otherwise the
+     * values are written as plain numbers without boxing.
+     *
+     * @param type the declared type of a field or the component type of an array
+     * @param ctx the weaving context resolving type weavers
+     * @return {@code true} if the values must not take the unboxed path
+     */
+    public static boolean weavesBoxed(Class<?> type, WeavingContext ctx) {
+        Class<?> wrapper = numberWrapper(type);
+        if (wrapper == null) {
+            return false;
+        }
+        TypeWeaver typeWeaver = ctx.resolveTypeWeaver(wrapper);
+        return typeWeaver != null && typeWeaver.targetType() != Object.class;
+    }
+
+    private static Class<?> numberWrapper(Class<?> type) {
+        if (type == int.class) {
+            return Integer.class;
+        } else if (type == long.class) {
+            return Long.class;
+        } else if (type == double.class) {
+            return Double.class;
+        } else if (type == float.class) {
+            return Float.class;
+        } else if (type == short.class) {
+            return Short.class;
+        } else if (type == byte.class) {
+            return Byte.class;
+        }
+        return null;
+    }
+
+    /**
+     * Checks whether the node is the truncation marker of a built tree.
+     *
+     * @param node the node to check
+     * @return {@code true} for the unnamed property reporting the truncation
+     */
+    public static boolean isTruncationMarker(ReflectiveNode node) {
+        return node instanceof PropertyNode property
+                && property.getFieldName() == null && property.getIndex() == null
+                && TRUNCATION_MARKER.equals(property.getValue());
+    }
+
+    private static void replay(ReflectiveNode node, ASTVisitor visitor) {
+        switch (node) {
+            case PropertyNode property -> {
+                Object raw = property.getRawValue();
+                if (raw != null) {
+                    visitor.value(property.getFieldName(), property.getIndex(), raw, property.getValue());
+                } else {
+                    visitor.property(property.getFieldName(), property.getIndex(), property.getValue());
+                }
+            }
+            case ObjectNode object -> {
+                visitor.beginObject(object.getFieldName(), object.getIndex(), object.getType());
+                replayChildren(object, visitor);
+                visitor.endObject();
+            }
+            case SequenceNode sequence -> {
+                visitor.beginSequence(sequence.getFieldName(), sequence.getIndex(), sequence.getType(), sequence.getSize());
+                replayChildren(sequence, visitor);
+                visitor.endSequence();
+            }
+            case MapEntryNode entry -> {
+                visitor.beginMapEntry(entry.getKey());
+                replayChildren(entry, visitor);
+                visitor.endMapEntry();
+            }
         }
+    }
 
-        ReflectiveNode node = toNode(null, item, ctx);
-        if (!(item instanceof Map.Entry)) {
-            node.setIndex(index);
+    private static void replayChildren(ReflectiveNode node, ASTVisitor visitor) {
+        for (ReflectiveNode child : node.getChildren()) {
+            replay(child, visitor);
         }
-        root.addChild(node);
     }
 
-    Object readField(Field field, Object target) throws ReflectiveOperationException {
-        field.setAccessible(true);
-        return field.get(target);
+    /**
+     * Expands a single subtree concurrently and records it for in-order stitching.
+     * <p>
+     * The fork runs on a {@link TraversalContext#fork() forked} traversal, so it
+     * makes the same cycle and depth decisions as a sequential traversal would.
+     * When stitched, the recording is replayed only if it fits into the budget
+     * that is actually left at that point and was neither truncated nor failed;
+     * otherwise the subtree is traversed again sequentially. Either way the
+     * output equals that of a sequential traversal.
+     */
+    private final class Fork extends RecursiveAction {
+
+        private final String name;
+        private final Integer index;
+        private final Object value;
+        private final TraversalContext traversal;
+        private final WeavingContext ctx;
+        private final NodeTreeBuilder recording = new NodeTreeBuilder();
+        private boolean failed;
+
+        Fork(TraversalContext parent, String name, Integer index, Object value, WeavingContext ctx) {
+            this.name = name;
+            this.index = index;
+            this.value = value;
+            this.traversal = parent.fork();
+            this.ctx = ctx.fork(traversal);
+        }
+
+        @Override
+        protected void compute() {
+            try {
+                visit(traversal, name, index, value, ctx, recording);
+            } catch (Throwable t) {
+                failed = true;
+            }
+        }
+
+        void stitch(TraversalContext parent, WeavingContext parentCtx, ASTVisitor visitor) {
+            if (!failed && !traversal.isTruncated() && parent.consume(traversal.getConsumed())) {
+                replay(recording.getRoot(), visitor);
+            } else {
+                visit(parent, name, index, value, parentCtx, visitor);
+            }
+        }
     }
 }
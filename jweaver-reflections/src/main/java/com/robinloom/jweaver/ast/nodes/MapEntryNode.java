@@ -33,6 +33,10 @@ public final class MapEntryNode extends ReflectiveNode {
         this.key = key;
     }
 
+    public String getKey() {
+        return key;
+    }
+
     @Override
     public String toString() {
         return key;
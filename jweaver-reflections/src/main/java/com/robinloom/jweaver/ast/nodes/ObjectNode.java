@@ -27,30 +27,57 @@ import org.jspecify.annotations.Nullable;
  * fields or properties.
  * <p>
  * The node retains the object's type and an optional field name if it is
- * nested within another object.
+ * nested within another object. Nodes decoded from a serialized tree only
+ * know the simple name of the type.
  */
 @NullMarked
 public final class ObjectNode extends ReflectiveNode {
 
     @Nullable private final String fieldName;
-    private final Class<?> clazz;
+    @Nullable private final Class<?> clazz;
+    private final String typeName;
 
     public ObjectNode(Class<?> clazz) {
         this.clazz = clazz;
+        this.typeName = clazz.getSimpleName();
         this.fieldName = null;
     }
 
     public ObjectNode(String fieldName, Class<?> clazz) {
         this.fieldName = fieldName;
         this.clazz = clazz;
+        this.typeName = clazz.getSimpleName();
+    }
+
+    public ObjectNode(@Nullable String fieldName, String typeName) {
+        this.fieldName = fieldName;
+        this.clazz = null;
+        this.typeName = typeName;
+    }
+
+    public @Nullable String getFieldName() {
+        return fieldName;
+    }
+
+    /**
+     * Returns the type of the object.
+     *
+     * @return the type, or {@code null} if the node was decoded
+     */
+    public @Nullable Class<?> getType() {
+        return clazz;
+    }
+
+    public String getTypeName() {
+        return typeName;
     }
 
     @Override
     public String toString() {
         if (fieldName == null || isRoot()) {
-            return clazz.getSimpleName();
+            return typeName;
         }  else {
-            return fieldName + "=" +  clazz.getSimpleName();
+            return fieldName + "=" +  typeName;
         }
     }
 }
@@ -27,6 +27,10 @@ import org.jspecify.annotations.Nullable;
  * stringified value, such as primitives, strings, or values handled by
  * {@link TypeWeaver}s.
  * <p>
+ * Nodes created from a woven object additionally retain that object as their
+ * raw value, so renderers emitting typed output can tell numbers, booleans and
+ * strings apart.
+ * <p>
  * Property nodes do not have children.
  */
 @NullMarked
@@ -34,21 +38,34 @@ public final class PropertyNode extends ReflectiveNode {
 
     @Nullable private final String fieldName;
     private final String value;
+    @Nullable private final Object rawValue;
 
     public PropertyNode(String fieldName, String value) {
-        this.fieldName = fieldName;
-        this.value = value;
+        this(fieldName, value, null);
     }
 
     public PropertyNode(String value) {
-        this.fieldName = null;
+        this(null, value, null);
+    }
+
+    public PropertyNode(@Nullable String fieldName, String value, @Nullable Object rawValue) {
+        this.fieldName = fieldName;
         this.value = value;
+        this.rawValue = rawValue;
+    }
+
+    public @Nullable String getFieldName() {
+        return fieldName;
     }
 
     public String getValue() {
         return value;
     }
 
+    public @Nullable Object getRawValue() {
+        return rawValue;
+    }
+
     @Override
     public String toString() {
         if (fieldName == null) {
@@ -27,26 +27,57 @@ import org.jspecify.annotations.Nullable;
  * <p>
  * Each child node may carry an index indicating its position within the sequence.
  * The node also retains the collection type and optional size information.
+ * Nodes decoded from a serialized tree only know the simple name of the type.
  */
 @NullMarked
 public final class SequenceNode extends ReflectiveNode {
 
     @Nullable private final String fieldName;
-    private final Class<?> clazz;
+    @Nullable private final Class<?> clazz;
+    private final String typeName;
     private final Integer size;
 
     public SequenceNode(@Nullable String fieldName, Class<?> clazz, Integer size) {
         this.fieldName = fieldName;
         this.clazz = clazz;
+        this.typeName = clazz.getSimpleName();
         this.size = size;
     }
 
+    public SequenceNode(@Nullable String fieldName, String typeName, Integer size) {
+        this.fieldName = fieldName;
+        this.clazz = null;
+        this.typeName = typeName;
+        this.size = size;
+    }
+
+    public @Nullable String getFieldName() {
+        return fieldName;
+    }
+
+    /**
+     * Returns the display type of the sequence.
+     *
+     * @return the type, or {@code null} if the node was decoded
+     */
+    public @Nullable Class<?> getType() {
+        return clazz;
+    }
+
+    public String getTypeName() {
+        return typeName;
+    }
+
+    public Integer getSize() {
+        return size;
+    }
+
     @Override
     public String toString() {
         if (fieldName == null || isRoot()) {
-            return clazz.getSimpleName() + "[" + size + "]";
+            return typeName + "[" + size + "]";
         } else {
-            return fieldName + "=" + clazz.getSimpleName() + "[" + size + "]";
+            return fieldName + "=" + typeName + "[" + size + "]";
         }
     }
 }
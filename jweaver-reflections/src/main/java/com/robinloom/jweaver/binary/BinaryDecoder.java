@@ -0,0 +1,215 @@
+/*
+ * Copyright (C) 2026 Robin Kösters
+ * mail[at]robinloom[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.robinloom.jweaver.binary;
+
+import com.robinloom.jweaver.Mode;
+import com.robinloom.jweaver.ast.nodes.*;
+import com.robinloom.jweaver.inline.InlineWeaver;
+import com.robinloom.jweaver.tree.TreeWeaver;
+import org.jspecify.annotations.Nullable;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reads trees written by a {@link BinaryEncoder}.
+ * <p>
+ * Decoding needs neither the classes of the encoded objects nor any
+ * {@code TypeWeaver}s; the restored {@link ReflectiveNode} trees carry the
+ * simple names of their types only. Trees are read one at a time, in the
+ * order they were encoded, and can be rendered with {@link #render}.
+ * <p>
+ * The decoder keeps the dictionary of the stream and is therefore not
+ * thread-safe.
+ */
+public class BinaryDecoder implements AutoCloseable {
+
+    private final InputStream in;
+    private final List<String> dictionary = new ArrayList<>();
+
+    public BinaryDecoder(InputStream in) throws IOException {
+        this.in = in;
+
+        byte[] magic = in.readNBytes(BinaryFormat.MAGIC.length);
+        if (!Arrays.equals(magic, BinaryFormat.MAGIC)) {
+            throw new IOException("Not a JWeaver binary stream");
+        }
+
+        int version = in.read();
+        if (version != BinaryFormat.VERSION) {
+            throw new IOException("Unsupported binary version: " + version);
+        }
+    }
+
+    /**
+     * Renders a decoded tree.
+     *
+     * @param tree the tree to render
+     * @param mode {@link Mode#TREE} for the tree-style format, INLINE otherwise
+     * @return the same text as weaving the encoded object in that mode
+     */
+    public static String render(ReflectiveNode tree, Mode mode) {
+        return mode == Mode.TREE ? TreeWeaver.render(tree) : InlineWeaver.render(tree);
+    }
+
+    /**
+     * Reads the next tree from the stream.
+     *
+     * @return the root of the tree, or {@code null} at the end of the stream
+     * @throws IOException if reading fails or the stream is malformed
+     */
+    public @Nullable ReflectiveNode read() throws IOException {
+        int tag = in.read();
+        if (tag < 0) {
+            return null;
+        }
+
+        List<ReflectiveNode> open = new ArrayList<>();
+        ReflectiveNode root = null;
+
+        do {
+            if (tag == BinaryFormat.END) {
+                if (open.isEmpty()) {
+                    throw new IOException("Unbalanced end of container");
+                }
+                open.removeLast();
+            } else {
+                ReflectiveNode node = token(tag);
+                if (open.isEmpty()) {
+                    root = node;
+                } else {
+                    open.getLast().addChild(node);
+                }
+
+                if (!(node instanceof PropertyNode)) {
+                    open.add(node);
+                }
+            }
+        } while (!open.isEmpty() && (tag = require()) >= 0);
+
+        return root;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private ReflectiveNode token(int tag) throws IOException {
+        if (tag == BinaryFormat.BEGIN_ENTRY) {
+            return new MapEntryNode(string());
+        }
+
+        String name = name();
+        Integer index = index();
+
+        ReflectiveNode node = switch (tag) {
+            case BinaryFormat.PROPERTY -> property(name, string());
+            case BinaryFormat.LONG -> {
+                long zigzag = varint();
+                yield property(name, Long.toString((zigzag >>> 1) ^ -(zigzag & 1)));
+            }
+            case BinaryFormat.FLOAT -> property(name, Float.toString(Float.intBitsToFloat((int) fixed(4))));
+            case BinaryFormat.DOUBLE -> property(name, Double.toString(Double.longBitsToDouble(fixed(8))));
+            case BinaryFormat.BEGIN_OBJECT -> new ObjectNode(name, requireName());
+            case BinaryFormat.BEGIN_SEQUENCE -> new SequenceNode(name, requireName(), (int) varint());
+            default -> throw new IOException("Unknown tag: " + tag);
+        };
+
+        if (index != null) {
+            node.setIndex(index);
+        }
+        return node;
+    }
+
+    private static PropertyNode property(@Nullable String name, String value) {
+        return name != null ? new PropertyNode(name, value) : new PropertyNode(value);
+    }
+
+    private @Nullable String name() throws IOException {
+        long reference = varint();
+        if (reference == BinaryFormat.NONE) {
+            return null;
+        }
+        if (reference == BinaryFormat.DEFINE) {
+            String name = string();
+            dictionary.add(name);
+            return name;
+        }
+
+        long id = reference - BinaryFormat.REFERENCE_OFFSET;
+        if (id >= dictionary.size()) {
+            throw new IOException("Undefined name reference: " + reference);
+        }
+        return dictionary.get((int) id);
+    }
+
+    private String requireName() throws IOException {
+        String name = name();
+        if (name == null) {
+            throw new IOException("Missing type name");
+        }
+        return name;
+    }
+
+    private @Nullable Integer index() throws IOException {
+        long index = varint();
+        return index == 0 ? null : (int) (index - 1);
+    }
+
+    private String string() throws IOException {
+        int length = (int) varint();
+        byte[] bytes = in.readNBytes(length);
+        if (bytes.length != length) {
+            throw new EOFException();
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private long varint() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = require();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    private long fixed(int bytes) throws IOException {
+        long bits = 0;
+        for (int i = 0; i < bytes; i++) {
+            bits |= (long) require() << (8 * i);
+        }
+        return bits;
+    }
+
+    private int require() throws IOException {
+        int b = in.read();
+        if (b < 0) {
+            throw new EOFException();
+        }
+        return b;
+    }
+}
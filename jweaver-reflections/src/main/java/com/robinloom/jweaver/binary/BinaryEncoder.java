@@ -0,0 +1,319 @@
+/*
+ * Copyright (C) 2026 Robin Kösters
+ * mail[at]robinloom[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.robinloom.jweaver.binary;
+
+import com.robinloom.jweaver.WeavingContext;
+import com.robinloom.jweaver.ast.ASTOptions;
+import com.robinloom.jweaver.ast.ASTVisitor;
+import com.robinloom.jweaver.ast.ReflectiveAST;
+import com.robinloom.jweaver.lang.FieldAccessor;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes the reflective structure of objects in a compact binary form.
+ * <p>
+ * The encoding defers rendering the structure as text: objects are traversed
+ * as in the other modes, but only their structure and leaf values are written.
+ * {@link BinaryDecoder} restores the node tree later and renders it in the
+ * INLINE or TREE format, with output equal to weaving the object directly.
+ * <p>
+ * Field and type names are interned into a dictionary that spans the whole
+ * stream, so each name is written once. Numbers of primitive fields and arrays
+ * are written as varints or raw IEEE 754 values. Leaves woven by
+ * {@code TypeWeaver}s are written as their rendered text.
+ * <p>
+ * Each object is encoded into an internal buffer and written to the stream as
+ * a whole. The encoder is thread-safe; concurrent calls are serialized.
+ *
+ * @see BinaryFormat
+ */
+public class BinaryEncoder implements AutoCloseable {
+
+    private final OutputStream out;
+    private final ReflectiveAST ast;
+    private final Map<String, Integer> names = new HashMap<>();
+    private final List<String> defined = new ArrayList<>();
+    private final Emitter emitter = new Emitter();
+
+    private byte[] buffer = new byte[256];
+    private int position;
+
+    public BinaryEncoder(OutputStream out) throws IOException {
+        this(out, ASTOptions.defaultOptions());
+    }
+
+    public BinaryEncoder(OutputStream out, ASTOptions options) throws IOException {
+        this.out = out;
+        this.ast = new ReflectiveAST(options);
+
+        out.write(BinaryFormat.MAGIC);
+        out.write(BinaryFormat.VERSION);
+    }
+
+    /**
+     * Encodes the structure of the given object and writes it to the stream.
+     *
+     * @param object the object to encode (may be {@code null})
+     * @param ctx the weaving context used to render leaf values
+     * @throws IOException if writing to the stream fails
+     */
+    public synchronized void encode(@Nullable Object object, WeavingContext ctx) throws IOException {
+        position = 0;
+        emitter.depth = 0;
+        int dictionary = defined.size();
+
+        if (object == null) {
+            emitter.property(null, null, "null");
+        } else {
+            try {
+                ast.traverse(object, ctx, emitter);
+            } catch (Throwable t) {
+                position = 0;
+                emitter.depth = 0;
+                forget(dictionary);
+                emitter.property("root", null, "[error]");
+            }
+        }
+
+        try {
+            out.write(buffer, 0, position);
+        } catch (IOException e) {
+            forget(dictionary);
+            throw e;
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        out.close();
+    }
+
+    /**
+     * Removes the dictionary entries defined after the given size.
+     */
+    private void forget(int size) {
+        while (defined.size() > size) {
+            names.remove(defined.removeLast());
+        }
+    }
+
+    private void tag(int tag) {
+        ensure(1);
+        buffer[position++] = (byte) tag;
+    }
+
+    private void varint(long value) {
+        ensure(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    private void fixed(long bits, int bytes) {
+        ensure(bytes);
+        for (int i = 0; i < bytes; i++) {
+            buffer[position++] = (byte) (bits >>> (8 * i));
+        }
+    }
+
+    private void string(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        varint(bytes.length);
+        ensure(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    private void name(@Nullable String name) {
+        if (name == null) {
+            varint(BinaryFormat.NONE);
+            return;
+        }
+
+        Integer id = names.get(name);
+        if (id != null) {
+            varint(id + BinaryFormat.REFERENCE_OFFSET);
+            return;
+        }
+
+        names.put(name, defined.size());
+        defined.add(name);
+        varint(BinaryFormat.DEFINE);
+        string(name);
+    }
+
+    private void index(@Nullable Integer index) {
+        varint(index == null ? 0 : index + 1L);
+    }
+
+    private void ensure(int bytes) {
+        if (position + bytes > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + bytes));
+        }
+    }
+
+    /**
+     * Visitor writing the traversal of a single object into the buffer.
+     */
+    private final class Emitter implements ASTVisitor {
+
+        private int[] marked = new int[16];
+        private int depth;
+
+        @Override
+        public void property(@Nullable String name, @Nullable Integer index, String value) {
+            tag(BinaryFormat.PROPERTY);
+            name(name);
+            index(index);
+            string(value);
+        }
+
+        @Override
+        public void number(String name, FieldAccessor accessor, Object target) {
+            Object value;
+            try {
+                value = accessor.get(target);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+
+            switch (value) {
+                case Double d -> floating(name, null, d);
+                case Float f -> floating(name, null, f);
+                default -> integral(name, null, ((Number) value).longValue());
+            }
+        }
+
+        @Override
+        public void element(int index, long value) {
+            integral(null, index, value);
+        }
+
+        @Override
+        public void element(int index, float value) {
+            floating(null, index, value);
+        }
+
+        @Override
+        public void element(int index, double value) {
+            floating(null, index, value);
+        }
+
+        private void integral(@Nullable String name, @Nullable Integer index, long value) {
+            tag(BinaryFormat.LONG);
+            name(name);
+            index(index);
+            varint((value << 1) ^ (value >> 63));
+        }
+
+        private void floating(@Nullable String name, @Nullable Integer index, float value) {
+            tag(BinaryFormat.FLOAT);
+            name(name);
+            index(index);
+            fixed(Float.floatToRawIntBits(value), 4);
+        }
+
+        private void floating(@Nullable String name, @Nullable Integer index, double value) {
+            tag(BinaryFormat.DOUBLE);
+            name(name);
+            index(index);
+            fixed(Double.doubleToRawLongBits(value), 8);
+        }
+
+        @Override
+        public void beginObject(@Nullable String name, @Nullable Integer index, Class<?> type) {
+            tag(BinaryFormat.BEGIN_OBJECT);
+            name(name);
+            index(index);
+            name(type.getSimpleName());
+            push();
+        }
+
+        @Override
+        public void endObject() {
+            end();
+        }
+
+        @Override
+        public void beginSequence(@Nullable String name, @Nullable Integer index, Class<?> type, int size) {
+            tag(BinaryFormat.BEGIN_SEQUENCE);
+            name(name);
+            index(index);
+            name(type.getSimpleName());
+            varint(size);
+            push();
+        }
+
+        @Override
+        public void endSequence() {
+            end();
+        }
+
+        @Override
+        public void beginMapEntry(String key) {
+            tag(BinaryFormat.BEGIN_ENTRY);
+            string(key);
+            push();
+        }
+
+        @Override
+        public void endMapEntry() {
+            end();
+        }
+
+        /**
+         * {@inheritDoc}
+         * <p>
+         * The size of the dictionary is saved with the innermost container, so
+         * names first defined by the discarded output are forgotten again.
+         */
+        @Override
+        public long mark() {
+            marked[depth] = defined.size();
+            return ((long) position << 32) | depth;
+        }
+
+        @Override
+        public void rollback(long mark) {
+            position = (int) (mark >>> 32);
+            depth = (int) mark;
+            forget(marked[depth]);
+        }
+
+        private void push() {
+            if (++depth == marked.length) {
+                marked = Arrays.copyOf(marked, depth * 2);
+            }
+        }
+
+        private void end() {
+            tag(BinaryFormat.END);
+            depth--;
+        }
+    }
+}
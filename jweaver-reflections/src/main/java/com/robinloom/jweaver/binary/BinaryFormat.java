@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2026 Robin Kösters
+ * mail[at]robinloom[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.robinloom.jweaver.binary;
+
+/**
+ * Constants of the binary encoding shared by {@link BinaryEncoder} and
+ * {@link BinaryDecoder}.
+ * <p>
+ * A stream starts with {@link #MAGIC} and {@link #VERSION}, followed by the
+ * encoded trees. Each tree is a sequence of tokens starting with a tag byte:
+ * <pre>
+ * PROPERTY       name index string
+ * LONG           name index zigzag-varint
+ * FLOAT          name index 4 bytes
+ * DOUBLE         name index 8 bytes
+ * BEGIN_OBJECT   name index type
+ * BEGIN_SEQUENCE name index type varint-size
+ * BEGIN_ENTRY    string
+ * END
+ * </pre>
+ * Indices are written as varint of {@code index + 1}, with {@code 0} meaning
+ * none. Strings are written as varint length followed by UTF-8 bytes.
+ * <p>
+ * Names and types are references into the dictionary of the stream:
+ * {@code 0} is no name, {@link #DEFINE} is followed by a string that is
+ * added to the dictionary, and any larger value {@code r} refers to the
+ * entry {@code r - 2}. A tree is complete once every begun container ended.
+ */
+final class BinaryFormat {
+
+    static final byte[] MAGIC = {'J', 'W', 'B'};
+    static final int VERSION = 1;
+
+    static final int PROPERTY = 1;
+    static final int LONG = 2;
+    static final int FLOAT = 3;
+    static final int DOUBLE = 4;
+    static final int BEGIN_OBJECT = 5;
+    static final int BEGIN_SEQUENCE = 6;
+    static final int BEGIN_ENTRY = 7;
+    static final int END = 8;
+
+    static final int NONE = 0;
+    static final int DEFINE = 1;
+    static final int REFERENCE_OFFSET = 2;
+
+    private BinaryFormat() {}
+}
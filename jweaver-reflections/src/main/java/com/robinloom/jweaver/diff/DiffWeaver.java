@@ -0,0 +1,159 @@
+/*
+ * Copyright (C) 2026 Robin Kösters
+ * mail[at]robinloom[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.robinloom.jweaver.diff;
+
+import com.robinloom.jweaver.Weaver;
+import com.robinloom.jweaver.WeavingContext;
+import com.robinloom.jweaver.ast.ASTOptions;
+import com.robinloom.jweaver.ast.ReflectiveAST;
+import com.robinloom.jweaver.inline.InlineWeaver;
+import com.robinloom.jweaver.util.WeakIdentityMap;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * {@link Weaver} implementation reporting only what changed since an object
+ * was last woven.
+ * <p>
+ * For every woven root object, the weaver keeps a {@link Fingerprint} of the
+ * paths and values of its traversal. The next weave of the same instance
+ * lists only the paths whose value differs or which are new, in traversal
+ * order, followed by the number of paths that disappeared:
+ * <pre>
+ * Order[status=SHIPPED, items=List[3], items[2]=Item, items[2].sku=A-7]
+ * Order[status=DELIVERED, 1 removed]
+ * Order[unchanged]
+ * </pre>
+ * The first weave of an instance lists all of its paths. If the node budget
+ * cuts the traversal short, the output ends with the truncation marker and
+ * is never reported as unchanged, since changes past the cut are unknown.
+ * For the same reason, removed paths are only counted for a complete
+ * traversal.
+ * <p>
+ * Objects are tracked by identity and held weakly; beyond the configured
+ * number of tracked objects, the least recently woven one is forgotten.
+ * <p>
+ * Objects woven from within a running traversal, e.g. by a {@code TypeWeaver},
+ * are rendered in the INLINE format and are not tracked.
+ * <p>
+ * This weaver is thread-safe. Concurrent weaves of the same instance are each
+ * compared against the fingerprint stored last.
+ */
+public class DiffWeaver implements Weaver {
+
+    /** Default number of objects whose fingerprint is retained. */
+    public static final int DEFAULT_MAX_TRACKED = 10_000;
+
+    private final ReflectiveAST ast;
+    private final InlineWeaver nested;
+    private final WeakIdentityMap<Fingerprint> fingerprints;
+
+    public DiffWeaver() {
+        this(ASTOptions.defaultOptions());
+    }
+
+    public DiffWeaver(ASTOptions options) {
+        this(options, DEFAULT_MAX_TRACKED);
+    }
+
+    public DiffWeaver(ASTOptions options, int maxTracked) {
+        this(options, new WeakIdentityMap<>(maxTracked));
+    }
+
+    private DiffWeaver(ASTOptions options, WeakIdentityMap<Fingerprint> fingerprints) {
+        this.ast = new ReflectiveAST(options);
+        this.nested = new InlineWeaver(options);
+        this.fingerprints = fingerprints;
+    }
+
+    /**
+     * Returns a weaver using the given options that shares the fingerprints of
+     * this weaver.
+     *
+     * @param options the traversal options of the new weaver
+     * @return a weaver continuing the history of this one
+     */
+    public DiffWeaver withOptions(ASTOptions options) {
+        return new DiffWeaver(options, fingerprints);
+    }
+
+    /**
+     * Produces the changes of the given object since it was last woven.
+     *
+     * @param object the object to render
+     * @param ctx the current weaving context
+     * @return the changed paths of the object
+     */
+    @Override
+    public String weave(@NonNull Object object, WeavingContext ctx) {
+        if (ctx.getTraversal() != null) {
+            return nested.weave(object, ctx);
+        }
+
+        PathCollector collector = new PathCollector();
+        try {
+            ast.traverse(object, ctx, collector);
+        } catch (Throwable t) {
+            return "root=[error]";
+        }
+
+        Fingerprint current = Fingerprint.of(collector);
+        Fingerprint previous = fingerprints.get(object);
+        fingerprints.put(object, current);
+
+        return render(object.getClass().getSimpleName(), collector, previous, current);
+    }
+
+    private static String render(String type, PathCollector collector,
+                                 Fingerprint previous, Fingerprint current) {
+        StringBuilder sb = new StringBuilder(type).append('[');
+        int start = sb.length();
+
+        for (int i = 0; i < collector.size(); i++) {
+            String path = collector.path(i);
+            String value = collector.value(i);
+            if (previous != null && previous.contains(path, value)) {
+                continue;
+            }
+
+            if (sb.length() > start) {
+                sb.append(", ");
+            }
+            if (!path.isEmpty()) {
+                sb.append(path).append('=');
+            }
+            sb.append(value);
+        }
+
+        int removed = previous != null && !current.isTruncated() ? previous.countRemoved(current) : 0;
+        if (removed > 0) {
+            if (sb.length() > start) {
+                sb.append(", ");
+            }
+            sb.append(removed).append(" removed");
+        }
+
+        if (current.isTruncated()) {
+            if (sb.length() > start) {
+                sb.append(", ");
+            }
+            sb.append(ReflectiveAST.TRUNCATION_MARKER);
+        } else if (sb.length() == start) {
+            sb.append("unchanged");
+        }
+        return sb.append(']').toString();
+    }
+}
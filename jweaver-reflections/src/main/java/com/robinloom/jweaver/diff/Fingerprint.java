@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) 2026 Robin Kösters
+ * mail[at]robinloom[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.robinloom.jweaver.diff;
+
+import java.util.Arrays;
+
+/**
+ * Compact record of a woven object tree.
+ * <p>
+ * Holds a 64-bit hash of every path and of its value, sorted by path hash.
+ * Neither paths nor values are retained, so the fingerprint does not keep any
+ * part of the object alive and costs 16 bytes per recorded path. A fingerprint
+ * of a truncated traversal is marked as such, since paths past the cut are
+ * missing from it.
+ */
+final class Fingerprint {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final long[] paths;
+    private final long[] values;
+    private final boolean truncated;
+
+    private Fingerprint(long[] paths, long[] values, boolean truncated) {
+        this.paths = paths;
+        this.values = values;
+        this.truncated = truncated;
+    }
+
+    /**
+     * Creates the fingerprint of the collected paths.
+     *
+     * @param collector the collector holding the paths of one traversal
+     * @return the fingerprint of the traversal
+     */
+    static Fingerprint of(PathCollector collector) {
+        int size = collector.size();
+        long[] paths = new long[size];
+        long[] values = new long[size];
+
+        for (int i = 0; i < size; i++) {
+            paths[i] = hash(collector.path(i));
+            values[i] = hash(collector.value(i));
+        }
+        sort(paths, values, 0, size - 1);
+        return new Fingerprint(paths, values, collector.isTruncated());
+    }
+
+    /**
+     * Sorts the path hashes in place, moving the value hashes along.
+     * <p>
+     * A quicksort on the parallel arrays, so that no index array has to be
+     * boxed for a comparator.
+     */
+    private static void sort(long[] paths, long[] values, int lo, int hi) {
+        while (lo < hi) {
+            long pivot = paths[(lo + hi) >>> 1];
+            int i = lo;
+            int j = hi;
+            while (i <= j) {
+                while (paths[i] < pivot) {
+                    i++;
+                }
+                while (paths[j] > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    swap(paths, i, j);
+                    swap(values, i, j);
+                    i++;
+                    j--;
+                }
+            }
+
+            // recurse into the smaller half to bound the stack depth
+            if (j - lo < hi - i) {
+                sort(paths, values, lo, j);
+                lo = i;
+            } else {
+                sort(paths, values, i, hi);
+                hi = j;
+            }
+        }
+    }
+
+    private static void swap(long[] array, int i, int j) {
+        long tmp = array[i];
+        array[i] = array[j];
+        array[j] = tmp;
+    }
+
+    /**
+     * Indicates whether the traversal was cut short by the node budget.
+     *
+     * @return {@code true} if paths past the cut are missing
+     */
+    boolean isTruncated() {
+        return truncated;
+    }
+
+    /**
+     * Indicates whether the path had the given value when this fingerprint was taken.
+     *
+     * @param path the path to look up
+     * @param value the current value of the path
+     * @return {@code true} if the path was recorded with an equal value
+     */
+    boolean contains(String path, String value) {
+        int i = Arrays.binarySearch(paths, hash(path));
+        return i >= 0 && values[i] == hash(value);
+    }
+
+    /**
+     * Counts the paths of this fingerprint that are absent from another one.
+     *
+     * @param current the fingerprint to compare against
+     * @return the number of removed paths
+     */
+    int countRemoved(Fingerprint current) {
+        int removed = 0;
+        for (long path : paths) {
+            if (Arrays.binarySearch(current.paths, path) < 0) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Computes the 64-bit FNV-1a hash of a string.
+     */
+    static long hash(String s) {
+        long hash = FNV_OFFSET;
+        for (int i = 0; i < s.length(); i++) {
+            hash ^= s.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+}
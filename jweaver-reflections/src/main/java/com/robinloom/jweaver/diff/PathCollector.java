@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2026 Robin Kösters
+ * mail[at]robinloom[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.robinloom.jweaver.diff;
+
+import com.robinloom.jweaver.ast.ASTVisitor;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link ASTVisitor} flattening the traversal into a list of path/value pairs.
+ * <p>
+ * Paths are built from field names and indices, e.g. {@code address.city} or
+ * {@code items[2].sku}; map keys are appended like field names. Every value,
+ * object and sequence below the root yields one pair. Objects are recorded
+ * with their type name and sequences with their type and size, so a replaced
+ * or resized structure shows up as a change of its own path. The truncation
+ * marker is not recorded as a path; whether the traversal was cut short is
+ * kept alongside the paths.
+ */
+final class PathCollector implements ASTVisitor {
+
+    private final List<String> paths = new ArrayList<>();
+    private final List<String> values = new ArrayList<>();
+    private final List<String> open = new ArrayList<>();
+    private boolean truncated;
+
+    int size() {
+        return paths.size();
+    }
+
+    String path(int i) {
+        return paths.get(i);
+    }
+
+    String value(int i) {
+        return values.get(i);
+    }
+
+    boolean isTruncated() {
+        return truncated;
+    }
+
+    @Override
+    public void property(@Nullable String name, @Nullable Integer index, String value) {
+        record(child(name, index), value);
+    }
+
+    @Override
+    public void truncated() {
+        truncated = true;
+    }
+
+    @Override
+    public void beginObject(@Nullable String name, @Nullable Integer index, Class<?> type) {
+        String path = child(name, index);
+        if (!open.isEmpty()) {
+            record(path, type.getSimpleName());
+        }
+        open.add(path);
+    }
+
+    @Override
+    public void endObject() {
+        open.removeLast();
+    }
+
+    @Override
+    public void beginSequence(@Nullable String name, @Nullable Integer index, Class<?> type, int size) {
+        String path = child(name, index);
+        if (!open.isEmpty()) {
+            record(path, type.getSimpleName() + "[" + size + "]");
+        }
+        open.add(path);
+    }
+
+    @Override
+    public void endSequence() {
+        open.removeLast();
+    }
+
+    @Override
+    public void beginMapEntry(String key) {
+        open.add(child(key, null));
+    }
+
+    @Override
+    public void endMapEntry() {
+        open.removeLast();
+    }
+
+    @Override
+    public long mark() {
+        return ((long) open.size() << 32) | paths.size();
+    }
+
+    @Override
+    public void rollback(long mark) {
+        int depth = (int) (mark >>> 32);
+        int recorded = (int) mark;
+
+        while (open.size() > depth) {
+            open.removeLast();
+        }
+        while (paths.size() > recorded) {
+            paths.removeLast();
+            values.removeLast();
+        }
+    }
+
+    private void record(String path, String value) {
+        paths.add(path);
+        values.add(value);
+    }
+
+    /**
+     * Returns the path of a new child of the innermost open container.
+     * <p>
+     * The root has the empty path. Children without name and index, such as
+     * the value of a map entry, share the path of their container.
+     */
+    private String child(@Nullable String name, @Nullable Integer index) {
+        if (open.isEmpty()) {
+            return "";
+        }
+
+        String parent = open.getLast();
+        if (index != null) {
+            return parent + "[" + index + "]";
+        }
+        if (name == null) {
+            return parent;
+        }
+        return parent.isEmpty() ? name : parent + "." + name;
+    }
+}
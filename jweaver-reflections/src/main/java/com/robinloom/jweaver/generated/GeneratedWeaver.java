@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2026 Robin Kösters
+ * mail[at]robinloom[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.robinloom.jweaver.generated;
+
+import com.robinloom.jweaver.TypeWeaver;
+import com.robinloom.jweaver.WeavingContext;
+import com.robinloom.jweaver.lang.ClassPlan;
+import com.robinloom.jweaver.lang.FieldPlan;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Base class of the {@link TypeWeaver}s generated by {@code jweaver-processor}.
+ * <p>
+ * A generated weaver describes the fields of a class annotated with
+ * {@link com.robinloom.jweaver.annotation.WeaveGenerate} as {@link FieldPlan}s
+ * whose accessors read the fields directly, without reflection. On creation
+ * the plan is registered with {@link ClassPlan}, so instances of the class are
+ * traversed through generated code wherever they occur, not only at the root.
+ * <p>
+ * The weaver renders through the reflective weaver of the current mode, which
+ * keeps the output identical to that of an unannotated class, including depth
+ * limits, cycle detection and the node budget.
+ * <p>
+ * Generated weavers are provided as {@link java.util.ServiceLoader} services
+ * and picked up by the dictionary when it is first used.
+ *
+ * @param <T> the woven type
+ */
+public abstract class GeneratedWeaver<T> extends TypeWeaver {
+
+    private final Class<T> type;
+
+    /**
+     * Creates the weaver and registers its field plans.
+     *
+     * @param type the woven type
+     * @param fields the rendered fields, in declaration order
+     */
+    protected GeneratedWeaver(Class<T> type, List<FieldPlan> fields) {
+        this.type = type;
+        ClassPlan.register(type, fields);
+    }
+
+    @Override
+    public Class<?> targetType() {
+        return type;
+    }
+
+    @Override
+    public String weave(Object object, WeavingContext ctx) {
+        return ctx.weaveStructure(object);
+    }
+
+    @Override
+    public void weaveTo(Object object, WeavingContext ctx, Appendable out) throws IOException {
+        ctx.weaveStructureTo(object, out);
+    }
+}
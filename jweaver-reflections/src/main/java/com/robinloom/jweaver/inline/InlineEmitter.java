@@ -0,0 +1,199 @@
+/*
+ * Copyright (C) 2026 Robin Kösters
+ * mail[at]robinloom[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.robinloom.jweaver.inline;
+
+import com.robinloom.jweaver.ast.ASTVisitor;
+import com.robinloom.jweaver.lang.FieldAccessor;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * {@link ASTVisitor} writing the INLINE format directly into a {@link StringBuilder}.
+ * <p>
+ * The emitter reproduces the output of rendering the node tree without needing
+ * any lookahead: instead of asking whether a node is the last of its siblings,
+ * the separator is written in front of every sibling but the first. As in the
+ * tree renderer, no separator follows a map entry, and brackets are only
+ * written around containers that have children.
+ * <p>
+ * Truncation is not written in place. The traversal records it, and the
+ * renderer writes the marker once all open containers are closed, so that it
+ * is always the last token.
+ * <p>
+ * Open containers are tracked in a packed {@code int} stack holding the number
+ * of children written so far and whether the previous child was a map entry.
+ */
+final class InlineEmitter implements ASTVisitor {
+
+    private static final int ENTRY = 1;
+    private static final int PREVIOUS_ENTRY = 2;
+    private static final int COUNT_UNIT = 4;
+
+    private final StringBuilder sb;
+    private int[] frames = new int[16];
+    private int[] marked = new int[16];
+    private int depth;
+
+    InlineEmitter(StringBuilder sb) {
+        this.sb = sb;
+    }
+
+    @Override
+    public void truncated() {
+        // the marker follows the closed containers, see InlineWeaver
+    }
+
+    @Override
+    public void property(@Nullable String name, @Nullable Integer index, String value) {
+        child(false);
+        if (name != null) {
+            sb.append(name).append('=');
+        }
+        sb.append(value);
+    }
+
+    @Override
+    public void number(String name, FieldAccessor accessor, Object target) {
+        child(false);
+        sb.append(name).append('=');
+        accessor.appendNumber(target, sb);
+    }
+
+    @Override
+    public void element(int index, long value) {
+        child(false);
+        sb.append(value);
+    }
+
+    @Override
+    public void element(int index, float value) {
+        child(false);
+        sb.append(value);
+    }
+
+    @Override
+    public void element(int index, double value) {
+        child(false);
+        sb.append(value);
+    }
+
+    @Override
+    public void beginObject(@Nullable String name, @Nullable Integer index, Class<?> type) {
+        boolean root = child(false);
+        if (name != null && !root) {
+            sb.append(name).append('=');
+        }
+        sb.append(type.getSimpleName());
+        push(0);
+    }
+
+    @Override
+    public void endObject() {
+        close();
+    }
+
+    @Override
+    public void beginSequence(@Nullable String name, @Nullable Integer index, Class<?> type, int size) {
+        boolean root = child(false);
+        if (name != null && !root) {
+            sb.append(name).append('=');
+        }
+        sb.append(type.getSimpleName()).append('[').append(size).append(']');
+        push(0);
+    }
+
+    @Override
+    public void endSequence() {
+        close();
+    }
+
+    @Override
+    public void beginMapEntry(String key) {
+        child(true);
+        sb.append(key).append('=');
+        push(ENTRY);
+    }
+
+    @Override
+    public void endMapEntry() {
+        depth--;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The state of the innermost open container is saved with its frame.
+     * Markers are only taken between the fields of an object, so at most one
+     * marker per container is active at a time.
+     */
+    @Override
+    public long mark() {
+        if (depth > 0) {
+            marked[depth - 1] = frames[depth - 1];
+        }
+        return ((long) sb.length() << 32) | depth;
+    }
+
+    @Override
+    public void rollback(long mark) {
+        sb.setLength((int) (mark >>> 32));
+        depth = (int) mark;
+        if (depth > 0) {
+            frames[depth - 1] = marked[depth - 1];
+        }
+    }
+
+    /**
+     * Writes what precedes a new child of the innermost container.
+     *
+     * @param entry whether the new child is a map entry
+     * @return {@code true} if the child is the root
+     */
+    private boolean child(boolean entry) {
+        if (depth == 0) {
+            return true;
+        }
+
+        int frame = frames[depth - 1];
+        if ((frame & ENTRY) == 0) {
+            if (frame < COUNT_UNIT) {
+                sb.append('[');
+            } else if ((frame & PREVIOUS_ENTRY) == 0) {
+                sb.append(", ");
+            }
+        }
+
+        frame = (frame & ~PREVIOUS_ENTRY) + COUNT_UNIT;
+        frames[depth - 1] = entry ? frame | PREVIOUS_ENTRY : frame;
+        return false;
+    }
+
+    private void push(int frame) {
+        if (depth == frames.length) {
+            frames = Arrays.copyOf(frames, depth * 2);
+            marked = Arrays.copyOf(marked, depth * 2);
+        }
+        frames[depth++] = frame;
+    }
+
+    private void close() {
+        if (frames[--depth] >= COUNT_UNIT) {
+            sb.append(']');
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2026 Robin Kösters
+ * mail[at]robinloom[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.robinloom.jweaver.inline;
+
+/**
+ * Tiered selection of {@link SpecializedInlineWeaver}s.
+ * <p>
+ * Every class starts out on the general {@link InlineWeaver} path. Invocations
+ * are counted per class, and once a class has been woven more often than the
+ * configured threshold, a specialization is compiled. Classes that cannot be
+ * specialized are remembered and never re-evaluated.
+ * <p>
+ * The threshold is read from the system property
+ * {@value #THRESHOLD_PROPERTY} (default {@value #DEFAULT_THRESHOLD}). A value
+ * of {@code 0} specializes on first use, a negative value disables
+ * specialization entirely.
+ * <p>
+ * Counting is intentionally racy. Lost increments only delay compilation and
+ * compiling the same class twice is harmless, which keeps the hot path free
+ * of synchronization.
+ */
+final class InlineSpecializer {
+
+    static final String THRESHOLD_PROPERTY = "jweaver.inline.specializationThreshold";
+    static final int DEFAULT_THRESHOLD = 100;
+
+    private static final int THRESHOLD = Integer.getInteger(THRESHOLD_PROPERTY, DEFAULT_THRESHOLD);
+
+    private static final ClassValue<Tier> TIERS = new ClassValue<>() {
+        @Override
+        protected Tier computeValue(Class<?> type) {
+            return new Tier(type);
+        }
+    };
+
+    private InlineSpecializer() {}
+
+    /**
+     * Records an invocation for the given class and returns its specialization
+     * if one is available.
+     *
+     * @param type the class about to be woven
+     * @return the specialized weaver, or {@code null} to use the general path
+     */
+    static SpecializedInlineWeaver lookup(Class<?> type) {
+        if (THRESHOLD < 0) {
+            return null;
+        }
+        return TIERS.get(type).lookup();
+    }
+
+    private static final class Tier {
+
+        private final Class<?> type;
+        private int invocations;
+        private volatile boolean compiled;
+        private volatile SpecializedInlineWeaver weaver;
+
+        Tier(Class<?> type) {
+            this.type = type;
+        }
+
+        SpecializedInlineWeaver lookup() {
+            if (compiled) {
+                return weaver;
+            }
+
+            if (invocations++ < THRESHOLD) {
+                return null;
+            }
+
+            weaver = SpecializedInlineWeaver.compile(type);
+            compiled = true;
+            return weaver;
+        }
+    }
+}
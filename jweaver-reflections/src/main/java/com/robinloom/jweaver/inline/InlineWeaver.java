@@ -16,12 +16,17 @@
  */
 package com.robinloom.jweaver.inline;
 
+import com.robinloom.jweaver.TraversalContext;
 import com.robinloom.jweaver.Weaver;
 import com.robinloom.jweaver.WeavingContext;
 import com.robinloom.jweaver.ast.*;
-import com.robinloom.jweaver.ast.nodes.*;
+import com.robinloom.jweaver.ast.nodes.MapEntryNode;
+import com.robinloom.jweaver.ast.nodes.ReflectiveNode;
+import com.robinloom.jweaver.util.OutputSizeEstimator;
 import org.jspecify.annotations.NonNull;
 
+import java.io.IOException;
+
 /**
  * {@link Weaver} implementation producing a compact, single-line representation
  * of an object.
@@ -37,17 +42,37 @@ import org.jspecify.annotations.NonNull;
  * <p>
  * Nested objects and collections are rendered recursively using the same
  * inline format. Structural traversal is delegated to {@link ReflectiveAST},
- * ensuring consistent handling of cycles and depth limits.
+ * ensuring consistent handling of cycles and depth limits. The output is
+ * streamed by an {@link InlineEmitter} during traversal, so no intermediate
+ * node tree is built.
+ * <p>
+ * Frequently woven classes whose fields are all leaves are rendered by a
+ * per-class {@link SpecializedInlineWeaver} once they cross the threshold of
+ * {@link InlineSpecializer}, bypassing the generic traversal entirely.
+ * <p>
+ * Output is written into the buffer of the active {@link TraversalContext},
+ * whose capacity is first raised to the {@link OutputSizeEstimator estimated}
+ * output length of the woven class. Objects woven from within a running
+ * traversal append behind the output of the enclosing object and truncate the
+ * buffer again once their result has been extracted, so nested values do not
+ * allocate buffers of their own.
  * <p>
- * This weaver is stateless apart from its internal buffers and is typically
- * instantiated per use.
+ * This weaver is stateless and thread-safe; a single instance is shared by
+ * {@code ModeDispatcher}.
  */
 public class InlineWeaver implements Weaver {
 
-    private final ReflectiveAST ast = new ReflectiveAST();
-    private StringBuilder sb;
+    private static final OutputSizeEstimator SIZES = new OutputSizeEstimator();
+
+    private final ReflectiveAST ast;
+
+    public InlineWeaver() {
+        this(ASTOptions.defaultOptions());
+    }
 
-    public InlineWeaver() {}
+    public InlineWeaver(ASTOptions options) {
+        this.ast = new ReflectiveAST(options);
+    }
 
     /**
      * Produces a compact, single-line representation of the given object.
@@ -58,36 +83,161 @@ public class InlineWeaver implements Weaver {
      */
     @Override
     public String weave(@NonNull Object object, WeavingContext ctx) {
-        ReflectiveNode root = ast.build(object, ctx);
+        TraversalContext active = ctx.getTraversal();
+        if (active != null) {
+            return weave(object, ctx, active.getBuffer(), false);
+        }
 
-        sb = new StringBuilder();
-        traverseDepthFirst(root);
+        TraversalContext traversal = ast.acquireTraversal();
+        ctx.setTraversal(traversal);
+        try {
+            return weave(object, ctx, traversal.getBuffer(), true);
+        } finally {
+            ctx.setTraversal(null);
+            traversal.release();
+        }
+    }
 
+    /**
+     * Writes the compact representation of the given object to the target.
+     * <p>
+     * The output is copied from the traversal buffer into the target without
+     * creating a string. Objects woven from within a running traversal are
+     * appended as their string result.
+     *
+     * @param object the object to render
+     * @param ctx the current weaving context
+     * @param out the target to append the representation to
+     * @throws IOException if appending to the target fails
+     */
+    @Override
+    public void weaveTo(@NonNull Object object, WeavingContext ctx, Appendable out) throws IOException {
+        if (ctx.getTraversal() != null) {
+            out.append(weave(object, ctx));
+            return;
+        }
+
+        TraversalContext traversal = ast.acquireTraversal();
+        ctx.setTraversal(traversal);
+        try {
+            StringBuilder sb = traversal.getBuffer();
+            int start = render(object, ctx, sb, true);
+            try {
+                out.append(sb, start, sb.length());
+            } finally {
+                sb.setLength(start);
+            }
+        } finally {
+            ctx.setTraversal(null);
+            traversal.release();
+        }
+    }
+
+    /**
+     * Renders a node tree in the INLINE format.
+     * <p>
+     * Used for trees that were not built from a live object, e.g. decoded
+     * from their binary form. The output equals that of weaving the object
+     * the tree was built from.
+     *
+     * @param tree the root of the tree to render
+     * @return a concise, single-line representation of the tree
+     */
+    public static String render(ReflectiveNode tree) {
+        StringBuilder sb = new StringBuilder();
+        if (render(tree, sb)) {
+            sb.append(ReflectiveAST.TRUNCATION_MARKER);
+        }
         return sb.toString();
     }
 
-    private void traverseDepthFirst(ReflectiveNode node) {
+    /**
+     * Renders a node and its children, writing the separator in front of
+     * every child but the first, as the {@link InlineEmitter} does.
+     *
+     * @return {@code true} if the subtree contains the truncation marker,
+     *         which is skipped in place
+     */
+    private static boolean render(ReflectiveNode node, StringBuilder sb) {
         sb.append(node);
 
-        if (node instanceof MapEntryNode) {
-            sb.append("=");
-        } else if (node.hasChildren()) {
-            sb.append("[");
-        } else if (!node.isLastChild() && !node.isRoot()) {
-            sb.append(", ");
+        boolean entry = node instanceof MapEntryNode;
+        if (entry) {
+            sb.append('=');
         }
 
+        boolean truncated = false;
+        boolean previousEntry = false;
+        int written = 0;
+
         for (ReflectiveNode child : node.getChildren()) {
-            traverseDepthFirst(child);
+            if (ReflectiveAST.isTruncationMarker(child)) {
+                truncated = true;
+                continue;
+            }
+
+            if (!entry) {
+                if (written == 0) {
+                    sb.append('[');
+                } else if (!previousEntry) {
+                    sb.append(", ");
+                }
+            }
+
+            truncated |= render(child, sb);
+            previousEntry = child instanceof MapEntryNode;
+            written++;
         }
 
-        if (node.hasChildren() && !(node instanceof MapEntryNode)) {
-            sb.append("]");
+        if (written > 0 && !entry) {
+            sb.append(']');
+        }
+        return truncated;
+    }
 
-            if (!node.isLastChild() && !node.isRoot()) {
-                sb.append(", ");
-            }
+    private String weave(Object object, WeavingContext ctx, StringBuilder sb, boolean outermost) {
+        int start = render(object, ctx, sb, outermost);
+        try {
+            return sb.substring(start);
+        } finally {
+            sb.setLength(start);
         }
     }
 
+    /**
+     * Appends the representation of the object to the buffer.
+     * <p>
+     * If rendering fails, any partial output is replaced by an error marker.
+     * The caller is responsible for truncating the buffer again.
+     * <p>
+     * Only the outermost rendering of a traversal writes the truncation
+     * marker, behind everything else, including the output of nested
+     * renderings that exhausted the budget.
+     *
+     * @param outermost whether this rendering started the traversal
+     * @return the position in the buffer at which the output starts
+     */
+    private int render(Object object, WeavingContext ctx, StringBuilder sb, boolean outermost) {
+        int start = sb.length();
+        Class<?> type = object.getClass();
+        sb.ensureCapacity(start + SIZES.estimate(type));
+
+        try {
+            SpecializedInlineWeaver specialized = InlineSpecializer.lookup(object.getClass());
+            if (specialized != null) {
+                specialized.weave(object, ctx, sb);
+            } else {
+                ast.traverse(object, ctx, new InlineEmitter(sb));
+            }
+
+            if (outermost && ctx.getTraversal().isTruncated()) {
+                sb.append(ReflectiveAST.TRUNCATION_MARKER);
+            }
+        } catch (Throwable t) {
+            sb.setLength(start);
+            sb.append("root=[error]");
+        }
+        SIZES.record(type, sb.length() - start);
+        return start;
+    }
 }
@@ -0,0 +1,187 @@
+/*
+ * Copyright (C) 2026 Robin Kösters
+ * mail[at]robinloom[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.robinloom.jweaver.inline;
+
+import com.robinloom.jweaver.TraversalContext;
+import com.robinloom.jweaver.WeavingContext;
+import com.robinloom.jweaver.ast.ReflectiveAST;
+import com.robinloom.jweaver.lang.ClassPlan;
+import com.robinloom.jweaver.lang.ExpansionPolicy;
+import com.robinloom.jweaver.lang.FieldAccessor;
+import com.robinloom.jweaver.lang.FieldPlan;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * INLINE renderer specialized for a single, flat class.
+ * <p>
+ * A class is flat if every rendered field is a leaf according to its
+ * {@link FieldPlan}, i.e. its value is never expanded further. For such classes
+ * the output of {@link InlineWeaver} is fully determined by the field list, so
+ * the renderer writes directly into a {@link StringBuilder} using a fixed chain
+ * of per-field writers instead of building a node tree.
+ * <p>
+ * Field name prefixes are rendered once when the specialization is compiled and
+ * numeric primitives are appended without boxing, unless a weaver is registered
+ * for their wrapper type. The produced output is identical to the general
+ * {@link InlineWeaver} path.
+ */
+final class SpecializedInlineWeaver {
+
+    private static final String NULL = "null";
+    private static final String MASK = "***";
+    private static final String UNREADABLE = "[?]=[?]";
+
+    private final String typeName;
+    private final FieldWriter[] writers;
+
+    private SpecializedInlineWeaver(String typeName, FieldWriter[] writers) {
+        this.typeName = typeName;
+        this.writers = writers;
+    }
+
+    /**
+     * Compiles a specialized renderer for the given class.
+     *
+     * @param type the class to specialize
+     * @return the renderer, or {@code null} if the class is not flat
+     */
+    static SpecializedInlineWeaver compile(Class<?> type) {
+        if (!isPlainObject(type)) {
+            return null;
+        }
+
+        List<FieldPlan> fields = ClassPlan.of(type).getFields();
+        FieldWriter[] writers = new FieldWriter[fields.size()];
+
+        for (int i = 0; i < writers.length; i++) {
+            FieldPlan field = fields.get(i);
+            if (!field.isLeaf()) {
+                return null;
+            }
+            writers[i] = writer(field);
+        }
+
+        return new SpecializedInlineWeaver(type.getSimpleName(), writers);
+    }
+
+    /**
+     * Renders the given instance into the given buffer.
+     * <p>
+     * The instance is entered into the traversal of the context like any other
+     * object, so depth limits, cycle detection and the node budget apply as on
+     * the general path. Truncation is only recorded in the traversal; the
+     * marker is written by the renderer that started it.
+     * Failures that cannot be attributed to a single field are propagated.
+     *
+     * @param object an instance of the specialized class
+     * @param ctx the weaving context used for field values, carrying the active traversal
+     * @param sb the buffer to append the single-line representation to
+     */
+    void weave(Object object, WeavingContext ctx, StringBuilder sb) {
+        TraversalContext traversal = ctx.getTraversal();
+
+        if (!traversal.consume()) {
+            traversal.truncate();
+            return;
+        }
+
+        sb.append(typeName);
+
+        if (writers.length == 0 || !traversal.enter(object)) {
+            return;
+        }
+
+        try {
+            int written = 0;
+
+            for (FieldWriter writer : writers) {
+                if (!traversal.consume()) {
+                    traversal.truncate();
+                    break;
+                }
+
+                sb.append(written == 0 ? "[" : ", ");
+                written++;
+
+                int mark = sb.length();
+                try {
+                    writer.write(object, sb, ctx);
+                } catch (Exception e) {
+                    sb.setLength(mark);
+                    sb.append(UNREADABLE);
+                }
+            }
+
+            if (written > 0) {
+                sb.append(']');
+            }
+        } finally {
+            traversal.exit(object);
+        }
+    }
+
+    private static boolean isPlainObject(Class<?> type) {
+        return !ExpansionPolicy.shouldNotExpand(type)
+                && !type.isArray()
+                && !Collection.class.isAssignableFrom(type)
+                && !Map.class.isAssignableFrom(type)
+                && !Map.Entry.class.isAssignableFrom(type);
+    }
+
+    private static FieldWriter writer(FieldPlan field) {
+        String prefix = field.getName() + "=";
+        FieldAccessor accessor = field.getAccessor();
+
+        if (accessor.isPrimitiveNumber()) {
+            if (field.isSensitive()) {
+                return (_, sb, _) -> sb.append(prefix).append(MASK);
+            }
+            Class<?> type = field.getType();
+            return (target, sb, ctx) -> {
+                if (ReflectiveAST.weavesBoxed(type, ctx)) {
+                    sb.append(prefix).append(ctx.weave(accessor.get(target)));
+                } else {
+                    accessor.appendNumber(target, sb.append(prefix));
+                }
+            };
+        }
+
+        boolean sensitive = field.isSensitive();
+        return (target, sb, ctx) -> {
+            Object value = accessor.get(target);
+
+            String rendered;
+            if (value == null) {
+                rendered = NULL;
+            } else if (sensitive) {
+                rendered = MASK;
+            } else {
+                rendered = ctx.weave(value);
+            }
+
+            sb.append(prefix).append(rendered);
+        };
+    }
+
+    @FunctionalInterface
+    private interface FieldWriter {
+        void write(Object target, StringBuilder sb, WeavingContext ctx) throws Exception;
+    }
+}
@@ -0,0 +1,349 @@
+/*
+ * Copyright (C) 2026 Robin Kösters
+ * mail[at]robinloom[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.robinloom.jweaver.json;
+
+import com.robinloom.jweaver.ast.ASTVisitor;
+import com.robinloom.jweaver.lang.FieldAccessor;
+import org.jspecify.annotations.Nullable;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * {@link ASTVisitor} writing JSON tokens directly into a {@link StringBuilder}.
+ * <p>
+ * Objects and maps become JSON objects, all other sequences JSON arrays. Leaf
+ * values keep their type where JSON has one: integral and decimal numbers and
+ * booleans are written unquoted, strings and characters are escaped straight
+ * into the output. Every other leaf is written as the escaped string of its
+ * rendering. Non-finite floating-point numbers have no JSON representation
+ * and are written as strings.
+ * <p>
+ * Map keys are written without the quotes of their rendered form. Sequence
+ * elements reported with a name, i.e. map entries inside a list, and a map
+ * entry at the root are wrapped into single-member objects. Unnamed children
+ * of an object, such as the overflow and truncation markers of a map, are
+ * written under the key {@value #TRUNCATED_KEY}. Only the first of them is
+ * written, so that keys stay unique.
+ * <p>
+ * Open containers are tracked in an {@code int} stack holding the number of
+ * children written so far, the kind of container and whether it has an
+ * unnamed member, alongside whether the container was opened as the value
+ * of a single-member object.
+ */
+final class JsonEmitter implements ASTVisitor {
+
+    /** Key of unnamed children of objects. */
+    static final String TRUNCATED_KEY = "@truncated";
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private static final int ARRAY = 0;
+    private static final int OBJECT = 1;
+    private static final int ENTRY = 2;
+    private static final int KIND_MASK = 3;
+    private static final int UNNAMED = 4;
+    private static final int COUNT_UNIT = 8;
+
+    private final StringBuilder sb;
+    private int[] frames = new int[16];
+    private int[] marked = new int[16];
+    private boolean[] wrapped = new boolean[16];
+    private int depth;
+
+    JsonEmitter(StringBuilder sb) {
+        this.sb = sb;
+    }
+
+    @Override
+    public void property(@Nullable String name, @Nullable Integer index, String value) {
+        if (name == null && !claimUnnamed()) {
+            return;
+        }
+
+        boolean wrapped = child(name);
+        if ("null".equals(value)) {
+            sb.append("null");
+        } else {
+            string(value);
+        }
+        unwrap(wrapped);
+    }
+
+    @Override
+    public void value(@Nullable String name, @Nullable Integer index, Object value, @Nullable String rendered) {
+        boolean wrapped = child(name);
+        switch (value) {
+            case Integer _, Long _, Short _, Byte _, BigInteger _, BigDecimal _, Boolean _ -> sb.append(value);
+            case Double d -> decimal(Double.isFinite(d), d.toString());
+            case Float f -> decimal(Float.isFinite(f), f.toString());
+            case CharSequence s -> string(s);
+            case Character c -> string(c.toString());
+            default -> string(rendered);
+        }
+        unwrap(wrapped);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Numbers, booleans, strings and characters are written from the value
+     * itself, so weaving them would be wasted.
+     */
+    @Override
+    public boolean writesRaw(Object value) {
+        return switch (value) {
+            case Integer _, Long _, Short _, Byte _, BigInteger _, BigDecimal _, Boolean _,
+                 Double _, Float _, CharSequence _, Character _ -> true;
+            default -> false;
+        };
+    }
+
+    @Override
+    public void number(String name, FieldAccessor accessor, Object target) {
+        child(name);
+        int start = sb.length();
+        accessor.appendNumber(target, sb);
+
+        // NaN and Infinity are the only representations ending in a letter
+        char last = sb.charAt(sb.length() - 1);
+        if (last == 'N' || last == 'y') {
+            String text = sb.substring(start);
+            sb.setLength(start);
+            string(text);
+        }
+    }
+
+    @Override
+    public void element(int index, long value) {
+        child(null);
+        sb.append(value);
+    }
+
+    @Override
+    public void element(int index, float value) {
+        child(null);
+        decimal(Float.isFinite(value), Float.toString(value));
+    }
+
+    @Override
+    public void element(int index, double value) {
+        child(null);
+        decimal(Double.isFinite(value), Double.toString(value));
+    }
+
+    @Override
+    public void beginObject(@Nullable String name, @Nullable Integer index, Class<?> type) {
+        boolean wrapped = child(name);
+        sb.append('{');
+        push(OBJECT, wrapped);
+    }
+
+    @Override
+    public void endObject() {
+        close('}');
+    }
+
+    @Override
+    public void beginSequence(@Nullable String name, @Nullable Integer index, Class<?> type, int size) {
+        boolean wrapped = child(name);
+        boolean map = Map.class.isAssignableFrom(type);
+        sb.append(map ? '{' : '[');
+        push(map ? OBJECT : ARRAY, wrapped);
+    }
+
+    @Override
+    public void endSequence() {
+        int frame = frames[depth - 1];
+        close((frame & KIND_MASK) == OBJECT ? '}' : ']');
+    }
+
+    @Override
+    public void beginMapEntry(String key) {
+        boolean wrapped = depth == 0 ? wrap(key) : child(key);
+        push(ENTRY, wrapped);
+    }
+
+    @Override
+    public void endMapEntry() {
+        unwrap(wrapped[--depth]);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The state of the innermost open container is saved with its frame,
+     * as in the INLINE emitter.
+     */
+    @Override
+    public long mark() {
+        if (depth > 0) {
+            marked[depth - 1] = frames[depth - 1];
+        }
+        return ((long) sb.length() << 32) | depth;
+    }
+
+    @Override
+    public void rollback(long mark) {
+        sb.setLength((int) (mark >>> 32));
+        depth = (int) mark;
+        if (depth > 0) {
+            frames[depth - 1] = marked[depth - 1];
+        }
+    }
+
+    /**
+     * Writes what precedes a new child of the innermost container.
+     * <p>
+     * Inside objects the child is written as a member, using its name or
+     * {@value #TRUNCATED_KEY} as key. Named children of arrays are opened as
+     * single-member objects.
+     *
+     * @param name the name of the child, if any
+     * @return {@code true} if the child must be closed with {@link #unwrap(boolean)}
+     */
+    private boolean child(@Nullable String name) {
+        if (depth == 0) {
+            return false;
+        }
+
+        int frame = frames[depth - 1];
+        int kind = frame & KIND_MASK;
+        if (kind == ENTRY) {
+            return false;
+        }
+
+        if (frame >= COUNT_UNIT) {
+            sb.append(',');
+        }
+        frames[depth - 1] = frame + COUNT_UNIT;
+
+        if (kind == OBJECT) {
+            key(name != null ? name : TRUNCATED_KEY);
+            return false;
+        }
+
+        return name != null && wrap(name);
+    }
+
+    /**
+     * Opens a single-member object for a named child that is not a member.
+     *
+     * @return always {@code true}, as the object must be closed
+     */
+    private boolean wrap(String name) {
+        sb.append('{');
+        key(name);
+        return true;
+    }
+
+    /**
+     * Records an unnamed child of the innermost container.
+     *
+     * @return {@code false} if the container is an object that already has an
+     *         unnamed member, i.e. the child must be skipped
+     */
+    private boolean claimUnnamed() {
+        if (depth == 0) {
+            return true;
+        }
+
+        int frame = frames[depth - 1];
+        if ((frame & KIND_MASK) != OBJECT) {
+            return true;
+        }
+        if ((frame & UNNAMED) != 0) {
+            return false;
+        }
+        frames[depth - 1] = frame | UNNAMED;
+        return true;
+    }
+
+    /**
+     * Writes a member key.
+     * <p>
+     * Map keys arrive in their rendered form, in which strings are quoted.
+     * Since JSON keys are strings anyway, such quotes are dropped.
+     */
+    private void key(String name) {
+        int length = name.length();
+        if (length >= 2 && name.charAt(0) == '"' && name.charAt(length - 1) == '"') {
+            string(name.subSequence(1, length - 1));
+        } else {
+            string(name);
+        }
+        sb.append(':');
+    }
+
+    private void unwrap(boolean wrapped) {
+        if (wrapped) {
+            sb.append('}');
+        }
+    }
+
+    private void decimal(boolean finite, String text) {
+        if (finite) {
+            sb.append(text);
+        } else {
+            string(text);
+        }
+    }
+
+    /**
+     * Appends the string as a quoted and escaped JSON string.
+     */
+    private void string(CharSequence s) {
+        sb.append('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                case '\b' -> sb.append("\\b");
+                case '\f' -> sb.append("\\f");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        sb.append('"');
+    }
+
+    private void push(int kind, boolean wrap) {
+        if (depth == frames.length) {
+            frames = Arrays.copyOf(frames, depth * 2);
+            marked = Arrays.copyOf(marked, depth * 2);
+            wrapped = Arrays.copyOf(wrapped, depth * 2);
+        }
+        wrapped[depth] = wrap;
+        frames[depth++] = kind;
+    }
+
+    private void close(char bracket) {
+        sb.append(bracket);
+        unwrap(wrapped[--depth]);
+    }
+}
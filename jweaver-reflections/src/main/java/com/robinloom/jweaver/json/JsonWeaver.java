@@ -0,0 +1,174 @@
+/*
+ * Copyright (C) 2026 Robin Kösters
+ * mail[at]robinloom[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.robinloom.jweaver.json;
+
+import com.robinloom.jweaver.TraversalContext;
+import com.robinloom.jweaver.TypeWeaver;
+import com.robinloom.jweaver.Weaver;
+import com.robinloom.jweaver.WeavingContext;
+import com.robinloom.jweaver.ast.ASTOptions;
+import com.robinloom.jweaver.ast.ReflectiveAST;
+import com.robinloom.jweaver.generated.GeneratedWeaver;
+import com.robinloom.jweaver.lang.ExpansionPolicy;
+import com.robinloom.jweaver.lang.TypeClassification;
+import com.robinloom.jweaver.util.OutputSizeEstimator;
+import org.jspecify.annotations.NonNull;
+
+import java.io.IOException;
+
+/**
+ * {@link Weaver} implementation producing a compact JSON document.
+ * <p>
+ * Objects are represented by their fields, maps by their entries:
+ * <pre>
+ * {"name":"Jane","age":29,"tags":["a","b"],"address":{"city":"Springfield"}}
+ * </pre>
+ * <p>
+ * Structural traversal is delegated to {@link ReflectiveAST}, so cycles, depth
+ * limits, the node budget and redaction apply as in the other modes. Tokens are
+ * streamed by a {@link JsonEmitter} during traversal, with numbers and booleans
+ * kept unquoted and strings escaped in place. A root with a {@link TypeWeaver}
+ * is written as a single value, a root map entry as a single-member object.
+ * <p>
+ * Output is written into the buffer of the active {@link TraversalContext},
+ * presized to the {@link OutputSizeEstimator estimated} output length of the
+ * woven class, as in the INLINE mode.
+ * <p>
+ * This weaver is stateless and thread-safe; a single instance is shared by
+ * {@code ModeDispatcher}.
+ */
+public class JsonWeaver implements Weaver {
+
+    private static final OutputSizeEstimator SIZES = new OutputSizeEstimator();
+
+    private final ReflectiveAST ast;
+
+    public JsonWeaver() {
+        this(ASTOptions.defaultOptions());
+    }
+
+    public JsonWeaver(ASTOptions options) {
+        this.ast = new ReflectiveAST(options);
+    }
+
+    /**
+     * Produces a JSON representation of the given object.
+     *
+     * @param object the object to render
+     * @param ctx the current weaving context
+     * @return a single-line JSON document
+     */
+    @Override
+    public String weave(@NonNull Object object, WeavingContext ctx) {
+        TraversalContext active = ctx.getTraversal();
+        if (active != null) {
+            return weave(object, ctx, active.getBuffer(), false);
+        }
+
+        TraversalContext traversal = ast.acquireTraversal();
+        ctx.setTraversal(traversal);
+        try {
+            return weave(object, ctx, traversal.getBuffer(), true);
+        } finally {
+            ctx.setTraversal(null);
+            traversal.release();
+        }
+    }
+
+    /**
+     * Writes the JSON representation of the given object to the target.
+     * <p>
+     * The document is copied from the traversal buffer into the target
+     * without creating a string.
+     *
+     * @param object the object to render
+     * @param ctx the current weaving context
+     * @param out the target to append the document to
+     * @throws IOException if appending to the target fails
+     */
+    @Override
+    public void weaveTo(@NonNull Object object, WeavingContext ctx, Appendable out) throws IOException {
+        if (ctx.getTraversal() != null) {
+            out.append(weave(object, ctx));
+            return;
+        }
+
+        TraversalContext traversal = ast.acquireTraversal();
+        ctx.setTraversal(traversal);
+        try {
+            StringBuilder sb = traversal.getBuffer();
+            int start = render(object, ctx, sb, true);
+            try {
+                out.append(sb, start, sb.length());
+            } finally {
+                sb.setLength(start);
+            }
+        } finally {
+            ctx.setTraversal(null);
+            traversal.release();
+        }
+    }
+
+    private String weave(Object object, WeavingContext ctx, StringBuilder sb, boolean outermost) {
+        int start = render(object, ctx, sb, outermost);
+        try {
+            return sb.substring(start);
+        } finally {
+            sb.setLength(start);
+        }
+    }
+
+    /**
+     * Appends the document to the buffer, replacing any partial output by an
+     * error document if rendering fails.
+     * <p>
+     * The outermost object is written as a typed leaf if it has a
+     * {@link TypeWeaver}, as nested values are. Containers and types with a
+     * {@link GeneratedWeaver} are always traversed.
+     *
+     * @return the position in the buffer at which the document starts
+     */
+    private int render(Object object, WeavingContext ctx, StringBuilder sb, boolean outermost) {
+        int start = sb.length();
+        Class<?> type = object.getClass();
+        sb.ensureCapacity(start + SIZES.estimate(type));
+
+        try {
+            TypeWeaver typeWeaver = outermost ? leafWeaver(type, ctx) : null;
+            JsonEmitter emitter = new JsonEmitter(sb);
+            if (typeWeaver != null) {
+                String rendered = emitter.writesRaw(object) ? null : typeWeaver.weave(object, ctx);
+                emitter.value(null, null, object, rendered);
+            } else {
+                ast.traverse(object, ctx, emitter);
+            }
+        } catch (Throwable t) {
+            sb.setLength(start);
+            sb.append("{\"root\":\"[error]\"}");
+        }
+        SIZES.record(type, sb.length() - start);
+        return start;
+    }
+
+    private static TypeWeaver leafWeaver(Class<?> type, WeavingContext ctx) {
+        if (ExpansionPolicy.classify(type) == TypeClassification.CONTAINER) {
+            return null;
+        }
+        TypeWeaver typeWeaver = ctx.resolveTypeWeaver(type);
+        return typeWeaver instanceof GeneratedWeaver<?> ? null : typeWeaver;
+    }
+}
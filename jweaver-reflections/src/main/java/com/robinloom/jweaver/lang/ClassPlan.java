@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2026 Robin Kösters
+ * mail[at]robinloom[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.robinloom.jweaver.lang;
+
+import com.robinloom.jweaver.ast.ReflectiveAST;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compiled, per-class description of how instances are traversed.
+ * <p>
+ * A {@code ClassPlan} is computed once per type and holds the ordered
+ * {@link FieldPlan}s of all fields that take part in rendering. Field
+ * selection, annotation lookups, sensitivity detection and type
+ * classification are resolved up front, so a steady-state traversal in
+ * {@link ReflectiveAST} performs no reflective metadata work.
+ * <p>
+ * Plans are stored in a process-wide {@link ClassValue}, which ties their
+ * lifetime to the described class and does not prevent class unloading.
+ * <p>
+ * Weavers generated at compile time {@link #register(Class, List) register}
+ * their own field plans, which replace the reflective ones and read fields
+ * without any reflection.
+ */
+public final class ClassPlan {
+
+    private static final ClassValue<ClassPlan> PLANS = new ClassValue<>() {
+        @Override
+        protected ClassPlan computeValue(Class<?> type) {
+            ClassPlan generated = GENERATED.get(type);
+            return generated != null ? generated : reflect(type);
+        }
+    };
+
+    private static final Map<Class<?>, ClassPlan> GENERATED = new ConcurrentHashMap<>();
+
+    private final List<FieldPlan> fields;
+
+    private ClassPlan(List<FieldPlan> fields) {
+        this.fields = fields;
+    }
+
+    private static ClassPlan reflect(Class<?> type) {
+        List<Field> extracted = new FieldExtractor().extract(type);
+        return new ClassPlan(extracted.stream().map(FieldPlan::new).toList());
+    }
+
+    /**
+     * Registers a plan computed at compile time for the given class.
+     * <p>
+     * The plan replaces the reflective one, including one that has already
+     * been computed.
+     *
+     * @param type the described class
+     * @param fields the fields to render, in declaration order
+     */
+    public static void register(Class<?> type, List<FieldPlan> fields) {
+        GENERATED.put(type, new ClassPlan(List.copyOf(fields)));
+        PLANS.remove(type);
+    }
+
+    /**
+     * Returns the plan for the given class, computing it on first access.
+     *
+     * @param type the class to describe
+     * @return the shared plan for the class
+     */
+    public static ClassPlan of(Class<?> type) {
+        return PLANS.get(type);
+    }
+
+    /**
+     * Returns the fields to render, in declaration order.
+     *
+     * @return an immutable list of field plans
+     */
+    public List<FieldPlan> getFields() {
+        return fields;
+    }
+}
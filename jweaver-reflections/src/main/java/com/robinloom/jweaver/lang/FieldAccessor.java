@@ -0,0 +1,569 @@
+/*
+ * Copyright (C) 2026 Robin Kösters
+ * mail[at]robinloom[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.robinloom.jweaver.lang;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * Reads the value of a single field through a pre-built {@link MethodHandle}.
+ * <p>
+ * Accessors are created once per field by {@link FieldPlan}. Access checks are
+ * performed at creation time only; afterwards every read is a plain handle
+ * invocation without {@code setAccessible} or {@link Field#get} overhead.
+ * <p>
+ * Fields of a numeric primitive type ({@code int}, {@code long}, {@code double},
+ * {@code float}, {@code short}, {@code byte}) get specialized accessors whose
+ * getters return the primitive directly. Their values can be appended or
+ * formatted via {@link #appendNumber(Object, StringBuilder)} and
+ * {@link #formatNumber(Object)} without boxing. Such values are always rendered
+ * in their canonical decimal form, as produced by {@code String.valueOf}.
+ * <p>
+ * If a field cannot be made accessible (e.g. fields of non-open JDK modules),
+ * every read fails with an {@link IllegalAccessException}.
+ * <p>
+ * Accessors for code generated at compile time are created from plain
+ * functions via the {@code of*} factories taking a getter. They perform no
+ * reflection at all.
+ */
+public abstract class FieldAccessor {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    FieldAccessor() {}
+
+    /**
+     * Creates an accessor for the given field.
+     *
+     * @param field the field to read
+     * @return an accessor specialized for the field's type
+     */
+    public static FieldAccessor of(Field field) {
+        if (!field.trySetAccessible()) {
+            return new Inaccessible(field);
+        }
+
+        MethodHandle getter;
+        try {
+            getter = LOOKUP.unreflectGetter(field);
+        } catch (IllegalAccessException e) {
+            return new Inaccessible(field);
+        }
+
+        Class<?> type = field.getType();
+        if (type == int.class) {
+            return new IntHandleAccessor(getter.asType(methodType(int.class, Object.class)));
+        } else if (type == long.class) {
+            return new LongHandleAccessor(getter.asType(methodType(long.class, Object.class)));
+        } else if (type == double.class) {
+            return new DoubleHandleAccessor(getter.asType(methodType(double.class, Object.class)));
+        } else if (type == float.class) {
+            return new FloatHandleAccessor(getter.asType(methodType(float.class, Object.class)));
+        } else if (type == short.class || type == byte.class) {
+            return new NarrowIntHandleAccessor(getter.asType(methodType(Object.class, Object.class)),
+                                               getter.asType(methodType(int.class, Object.class)));
+        }
+
+        return new ReferenceHandleAccessor(getter.asType(methodType(Object.class, Object.class)));
+    }
+
+    /**
+     * Creates an accessor reading a reference value through the given getter.
+     *
+     * @param getter function reading the value from an instance
+     * @return an accessor delegating to the getter
+     */
+    public static FieldAccessor ofReference(Function<Object, Object> getter) {
+        return new ReferenceFunctionAccessor(getter);
+    }
+
+    /**
+     * Creates an accessor for an {@code int} value.
+     *
+     * @param getter function reading the value from an instance
+     * @return a primitive number accessor
+     */
+    public static FieldAccessor ofInt(ToIntFunction<Object> getter) {
+        return new IntFunctionAccessor(getter);
+    }
+
+    /**
+     * Creates an accessor for a {@code short} value, widened by the getter.
+     *
+     * @param getter function reading the value from an instance
+     * @return a primitive number accessor boxing to {@link Short}
+     */
+    public static FieldAccessor ofShort(ToIntFunction<Object> getter) {
+        return new NarrowIntFunctionAccessor(target -> (short) getter.applyAsInt(target), getter);
+    }
+
+    /**
+     * Creates an accessor for a {@code byte} value, widened by the getter.
+     *
+     * @param getter function reading the value from an instance
+     * @return a primitive number accessor boxing to {@link Byte}
+     */
+    public static FieldAccessor ofByte(ToIntFunction<Object> getter) {
+        return new NarrowIntFunctionAccessor(target -> (byte) getter.applyAsInt(target), getter);
+    }
+
+    /**
+     * Creates an accessor for a {@code long} value.
+     *
+     * @param getter function reading the value from an instance
+     * @return a primitive number accessor
+     */
+    public static FieldAccessor ofLong(ToLongFunction<Object> getter) {
+        return new LongFunctionAccessor(getter);
+    }
+
+    /**
+     * Creates an accessor for a {@code float} value, widened by the getter.
+     * <p>
+     * Widening a {@code float} to {@code double} is exact, so the value is
+     * narrowed back and rendered like any other {@code float} field.
+     *
+     * @param getter function reading the value from an instance
+     * @return a primitive number accessor
+     */
+    public static FieldAccessor ofFloat(ToDoubleFunction<Object> getter) {
+        return new FloatFunctionAccessor(getter);
+    }
+
+    /**
+     * Creates an accessor for a {@code double} value.
+     *
+     * @param getter function reading the value from an instance
+     * @return a primitive number accessor
+     */
+    public static FieldAccessor ofDouble(ToDoubleFunction<Object> getter) {
+        return new DoubleFunctionAccessor(getter);
+    }
+
+    /**
+     * Reads the field value, boxing primitives.
+     *
+     * @param target the instance to read from
+     * @return the field value (may be {@code null})
+     * @throws IllegalAccessException if the field is not accessible
+     */
+    public abstract Object get(Object target) throws IllegalAccessException;
+
+    /**
+     * Indicates whether this accessor supports the unboxed number methods.
+     *
+     * @return {@code true} for fields of a numeric primitive type
+     */
+    public boolean isPrimitiveNumber() {
+        return false;
+    }
+
+    /**
+     * Appends the numeric field value to the given builder without boxing.
+     * <p>
+     * Accessors of non-primitive fields append the boxed value.
+     *
+     * @param target the instance to read from
+     * @param sb the builder to append to
+     * @throws IllegalStateException if the field is not accessible
+     */
+    public void appendNumber(Object target, StringBuilder sb) {
+        sb.append(boxed(target));
+    }
+
+    /**
+     * Formats the numeric field value without boxing.
+     * <p>
+     * Accessors of non-primitive fields format the boxed value.
+     *
+     * @param target the instance to read from
+     * @return the decimal representation of the value
+     * @throws IllegalStateException if the field is not accessible
+     */
+    public String formatNumber(Object target) {
+        return String.valueOf(boxed(target));
+    }
+
+    private Object boxed(Object target) {
+        try {
+            return get(target);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static RuntimeException unchecked(Throwable t) {
+        if (t instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (t instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(t);
+    }
+
+    private static final class ReferenceHandleAccessor extends FieldAccessor {
+
+        private final MethodHandle getter;
+
+        ReferenceHandleAccessor(MethodHandle getter) {
+            this.getter = getter;
+        }
+
+        @Override
+        public Object get(Object target) {
+            try {
+                return (Object) getter.invokeExact(target);
+            } catch (Throwable t) {
+                throw unchecked(t);
+            }
+        }
+    }
+
+    private static final class ReferenceFunctionAccessor extends FieldAccessor {
+
+        private final Function<Object, Object> getter;
+
+        ReferenceFunctionAccessor(Function<Object, Object> getter) {
+            this.getter = getter;
+        }
+
+        @Override
+        public Object get(Object target) {
+            return getter.apply(target);
+        }
+    }
+
+    private abstract static class IntAccessor extends FieldAccessor {
+
+        abstract int read(Object target);
+
+        @Override
+        public Object get(Object target) {
+            return read(target);
+        }
+
+        @Override
+        public boolean isPrimitiveNumber() {
+            return true;
+        }
+
+        @Override
+        public void appendNumber(Object target, StringBuilder sb) {
+            sb.append(read(target));
+        }
+
+        @Override
+        public String formatNumber(Object target) {
+            return Integer.toString(read(target));
+        }
+    }
+
+    private static final class IntHandleAccessor extends IntAccessor {
+
+        private final MethodHandle getter;
+
+        IntHandleAccessor(MethodHandle getter) {
+            this.getter = getter;
+        }
+
+        @Override
+        int read(Object target) {
+            try {
+                return (int) getter.invokeExact(target);
+            } catch (Throwable t) {
+                throw unchecked(t);
+            }
+        }
+    }
+
+    private static final class IntFunctionAccessor extends IntAccessor {
+
+        private final ToIntFunction<Object> getter;
+
+        IntFunctionAccessor(ToIntFunction<Object> getter) {
+            this.getter = getter;
+        }
+
+        @Override
+        int read(Object target) {
+            return getter.applyAsInt(target);
+        }
+    }
+
+    private abstract static class LongAccessor extends FieldAccessor {
+
+        abstract long read(Object target);
+
+        @Override
+        public Object get(Object target) {
+            return read(target);
+        }
+
+        @Override
+        public boolean isPrimitiveNumber() {
+            return true;
+        }
+
+        @Override
+        public void appendNumber(Object target, StringBuilder sb) {
+            sb.append(read(target));
+        }
+
+        @Override
+        public String formatNumber(Object target) {
+            return Long.toString(read(target));
+        }
+    }
+
+    private static final class LongHandleAccessor extends LongAccessor {
+
+        private final MethodHandle getter;
+
+        LongHandleAccessor(MethodHandle getter) {
+            this.getter = getter;
+        }
+
+        @Override
+        long read(Object target) {
+            try {
+                return (long) getter.invokeExact(target);
+            } catch (Throwable t) {
+                throw unchecked(t);
+            }
+        }
+    }
+
+    private static final class LongFunctionAccessor extends LongAccessor {
+
+        private final ToLongFunction<Object> getter;
+
+        LongFunctionAccessor(ToLongFunction<Object> getter) {
+            this.getter = getter;
+        }
+
+        @Override
+        long read(Object target) {
+            return getter.applyAsLong(target);
+        }
+    }
+
+    private abstract static class DoubleAccessor extends FieldAccessor {
+
+        abstract double read(Object target);
+
+        @Override
+        public Object get(Object target) {
+            return read(target);
+        }
+
+        @Override
+        public boolean isPrimitiveNumber() {
+            return true;
+        }
+
+        @Override
+        public void appendNumber(Object target, StringBuilder sb) {
+            sb.append(read(target));
+        }
+
+        @Override
+        public String formatNumber(Object target) {
+            return Double.toString(read(target));
+        }
+    }
+
+    private static final class DoubleHandleAccessor extends DoubleAccessor {
+
+        private final MethodHandle getter;
+
+        DoubleHandleAccessor(MethodHandle getter) {
+            this.getter = getter;
+        }
+
+        @Override
+        double read(Object target) {
+            try {
+                return (double) getter.invokeExact(target);
+            } catch (Throwable t) {
+                throw unchecked(t);
+            }
+        }
+    }
+
+    private static final class DoubleFunctionAccessor extends DoubleAccessor {
+
+        private final ToDoubleFunction<Object> getter;
+
+        DoubleFunctionAccessor(ToDoubleFunction<Object> getter) {
+            this.getter = getter;
+        }
+
+        @Override
+        double read(Object target) {
+            return getter.applyAsDouble(target);
+        }
+    }
+
+    private abstract static class FloatAccessor extends FieldAccessor {
+
+        abstract float read(Object target);
+
+        @Override
+        public Object get(Object target) {
+            return read(target);
+        }
+
+        @Override
+        public boolean isPrimitiveNumber() {
+            return true;
+        }
+
+        @Override
+        public void appendNumber(Object target, StringBuilder sb) {
+            sb.append(read(target));
+        }
+
+        @Override
+        public String formatNumber(Object target) {
+            return Float.toString(read(target));
+        }
+    }
+
+    private static final class FloatHandleAccessor extends FloatAccessor {
+
+        private final MethodHandle getter;
+
+        FloatHandleAccessor(MethodHandle getter) {
+            this.getter = getter;
+        }
+
+        @Override
+        float read(Object target) {
+            try {
+                return (float) getter.invokeExact(target);
+            } catch (Throwable t) {
+                throw unchecked(t);
+            }
+        }
+    }
+
+    private static final class FloatFunctionAccessor extends FloatAccessor {
+
+        private final ToDoubleFunction<Object> getter;
+
+        FloatFunctionAccessor(ToDoubleFunction<Object> getter) {
+            this.getter = getter;
+        }
+
+        @Override
+        float read(Object target) {
+            return (float) getter.applyAsDouble(target);
+        }
+    }
+
+    private abstract static class NarrowIntAccessor extends FieldAccessor {
+
+        abstract int read(Object target);
+
+        @Override
+        public boolean isPrimitiveNumber() {
+            return true;
+        }
+
+        @Override
+        public void appendNumber(Object target, StringBuilder sb) {
+            sb.append(read(target));
+        }
+
+        @Override
+        public String formatNumber(Object target) {
+            return Integer.toString(read(target));
+        }
+    }
+
+    private static final class NarrowIntHandleAccessor extends NarrowIntAccessor {
+
+        private final MethodHandle getter;
+        private final MethodHandle widened;
+
+        NarrowIntHandleAccessor(MethodHandle getter, MethodHandle widened) {
+            this.getter = getter;
+            this.widened = widened;
+        }
+
+        @Override
+        public Object get(Object target) {
+            try {
+                return (Object) getter.invokeExact(target);
+            } catch (Throwable t) {
+                throw unchecked(t);
+            }
+        }
+
+        @Override
+        int read(Object target) {
+            try {
+                return (int) widened.invokeExact(target);
+            } catch (Throwable t) {
+                throw unchecked(t);
+            }
+        }
+    }
+
+    private static final class NarrowIntFunctionAccessor extends NarrowIntAccessor {
+
+        private final Function<Object, Object> getter;
+        private final ToIntFunction<Object> widened;
+
+        NarrowIntFunctionAccessor(Function<Object, Object> getter, ToIntFunction<Object> widened) {
+            this.getter = getter;
+            this.widened = widened;
+        }
+
+        @Override
+        public Object get(Object target) {
+            return getter.apply(target);
+        }
+
+        @Override
+        int read(Object target) {
+            return widened.applyAsInt(target);
+        }
+    }
+
+    private static final class Inaccessible extends FieldAccessor {
+
+        private final Field field;
+
+        Inaccessible(Field field) {
+            this.field = field;
+        }
+
+        @Override
+        public Object get(Object target) throws IllegalAccessException {
+            throw new IllegalAccessException("Inaccessible field: " + field);
+        }
+    }
+}
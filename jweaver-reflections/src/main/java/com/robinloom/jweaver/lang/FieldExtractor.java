@@ -22,8 +22,6 @@ import com.robinloom.jweaver.ast.ReflectiveAST;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Extracts the relevant fields of a class for reflective traversal.
@@ -40,15 +38,13 @@ import java.util.concurrent.ConcurrentHashMap;
  *     <li>applies language-specific filtering (e.g. Kotlin companion objects)</li>
  * </ul>
  * <p>
- * Results are cached per class to avoid repeated reflective analysis.
+ * The extractor itself does not cache. Its results are retained per class
+ * by {@link ClassPlan}, which should be used during traversal.
  * <p>
- * This class is thread-safe and intended to be reused across multiple
- * traversal operations.
+ * This class is stateless and thread-safe.
  */
 public final class FieldExtractor {
 
-    private final Map<Class<?>, List<Field>> CACHE = new ConcurrentHashMap<>();
-
     /**
      * Returns the filtered list of relevant fields for the given class.
      *
@@ -56,10 +52,6 @@ public final class FieldExtractor {
      * @return a list of fields considered part of the object's structure
      */
     public List<Field> extract(Class<?> clazz) {
-        return CACHE.computeIfAbsent(clazz, this::compute);
-    }
-
-    private List<Field> compute(Class<?> clazz) {
         boolean isKotlin = KotlinSupport.isKotlinClass(clazz);
         return collectFields(clazz).stream()
                                    .filter(f -> isRelevant(f, isKotlin) && isIncluded(f))
@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2026 Robin Kösters
+ * mail[at]robinloom[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.robinloom.jweaver.lang;
+
+import com.robinloom.jweaver.annotation.WeaveName;
+import com.robinloom.jweaver.util.SensitivityDetection;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * Precomputed rendering metadata for a single field.
+ * <p>
+ * A {@code FieldPlan} captures everything about a field that does not depend
+ * on the instance being rendered: its display name (honoring
+ * {@link WeaveName}), whether it is sensitive, whether its declared type
+ * guarantees a leaf value, and the {@link FieldAccessor} used to read it.
+ * <p>
+ * Instances are created once per field by {@link ClassPlan} and are immutable.
+ */
+public final class FieldPlan {
+
+    private final String name;
+    private final boolean sensitive;
+    private final boolean leaf;
+    private final Class<?> type;
+    private final FieldAccessor accessor;
+
+    FieldPlan(Field field) {
+        this(resolveName(field), SensitivityDetection.isSensitive(field), field.getType(), FieldAccessor.of(field));
+    }
+
+    private FieldPlan(String name, boolean sensitive, Class<?> type, FieldAccessor accessor) {
+        this.name = name;
+        this.sensitive = sensitive;
+        this.leaf = isLeafType(type);
+        this.type = type;
+        this.accessor = accessor;
+    }
+
+    /**
+     * Creates the plan of a field described at compile time.
+     * <p>
+     * Used by generated weavers, which resolve names and annotations statically
+     * and read the field without reflection. Sensitivity by name and type is
+     * detected exactly as for reflectively planned fields.
+     *
+     * @param fieldName the declared name of the field
+     * @param displayName the name under which the field is rendered
+     * @param type the declared type of the field
+     * @param redacted whether the field is annotated with {@code @WeaveRedact}
+     * @param accessor the accessor reading the field
+     * @return the field plan
+     */
+    public static FieldPlan of(String fieldName, String displayName, Class<?> type,
+                               boolean redacted, FieldAccessor accessor) {
+        boolean sensitive = SensitivityDetection.isSensitive(fieldName, type, redacted);
+        return new FieldPlan(displayName, sensitive, type, accessor);
+    }
+
+    /**
+     * Returns the name under which the field is rendered.
+     *
+     * @return the {@link WeaveName} value if present, the field name otherwise
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Indicates whether the field value must be masked.
+     *
+     * @return {@code true} if the field is considered sensitive
+     */
+    public boolean isSensitive() {
+        return sensitive;
+    }
+
+    /**
+     * Indicates whether every value of this field is rendered as a leaf.
+     * <p>
+     * This holds if the declared type is primitive or final and excluded from
+     * expansion, in which case the runtime type cannot differ from the
+     * declared one and no further classification is necessary.
+     *
+     * @return {@code true} if values of this field are never expanded
+     */
+    public boolean isLeaf() {
+        return leaf;
+    }
+
+    /**
+     * Returns the declared type of this field.
+     *
+     * @return the type of the field, possibly primitive
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * Returns the accessor used to read this field.
+     *
+     * @return the cached accessor of the field
+     */
+    public FieldAccessor getAccessor() {
+        return accessor;
+    }
+
+    /**
+     * Reads the value of this field from the given target.
+     *
+     * @param target the instance to read from
+     * @return the current field value (may be {@code null})
+     * @throws IllegalAccessException if the field cannot be made accessible
+     */
+    public Object read(Object target) throws IllegalAccessException {
+        return accessor.get(target);
+    }
+
+    private static String resolveName(Field field) {
+        WeaveName weaveName = field.getAnnotation(WeaveName.class);
+        return weaveName != null ? weaveName.value() : field.getName();
+    }
+
+    private static boolean isLeafType(Class<?> type) {
+        boolean exact = type.isPrimitive() || Modifier.isFinal(type.getModifiers());
+        return exact && ExpansionPolicy.shouldNotExpand(type);
+    }
+}
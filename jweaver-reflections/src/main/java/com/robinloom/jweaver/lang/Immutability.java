@@ -0,0 +1,109 @@
+/*
+ * Copyright (C) 2026 Robin Kösters
+ * mail[at]robinloom[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.robinloom.jweaver.lang;
+
+import com.robinloom.jweaver.annotation.WeaveImmutable;
+
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.lang.reflect.RecordComponent;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Determines whether instances of a class are known to be immutable.
+ * <p>
+ * A class is known to be immutable if it
+ * <ul>
+ *     <li>is a {@link ValueTypes value type}, excluding mutable character
+ *     sequences and all numbers but the boxed primitives, {@link BigInteger}
+ *     and {@link BigDecimal} themselves,</li>
+ *     <li>is annotated with {@link WeaveImmutable}, or</li>
+ *     <li>is a record whose components all have a primitive type, or a final
+ *     or enum type that is itself known to be immutable.</li>
+ * </ul>
+ * <p>
+ * Results are cached per class.
+ */
+public final class Immutability {
+
+    private static final ClassValue<Boolean> IMMUTABLE = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return compute(type, new HashSet<>());
+        }
+    };
+
+    private static final Set<Class<?>> IMMUTABLE_NUMBERS = Set.of(
+            Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class,
+            BigInteger.class, BigDecimal.class);
+
+    private Immutability() {}
+
+    /**
+     * Checks whether instances of the given class are known to be immutable.
+     *
+     * @param type the class to check
+     * @return {@code true} if instances never change their state
+     */
+    public static boolean isImmutable(Class<?> type) {
+        return IMMUTABLE.get(type);
+    }
+
+    private static boolean compute(Class<?> type, Set<Class<?>> visiting) {
+        if (type.isPrimitive() || type.isAnnotationPresent(WeaveImmutable.class)) {
+            return true;
+        }
+
+        if (ValueTypes.isValueType(type)) {
+            return isImmutableValue(type);
+        }
+
+        if (!type.isRecord()) {
+            return false;
+        }
+
+        // a record referring to itself is immutable if all other components are
+        if (!visiting.add(type)) {
+            return true;
+        }
+
+        for (RecordComponent component : type.getRecordComponents()) {
+            Class<?> componentType = component.getType();
+
+            boolean exact = componentType.isPrimitive()
+                    || componentType.isEnum()
+                    || Modifier.isFinal(componentType.getModifiers());
+
+            if (!exact || !compute(componentType, visiting)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isImmutableValue(Class<?> type) {
+        if (CharSequence.class.isAssignableFrom(type)) {
+            return type == String.class;
+        }
+        if (Number.class.isAssignableFrom(type)) {
+            return IMMUTABLE_NUMBERS.contains(type);
+        }
+        return true;
+    }
+}
@@ -20,9 +20,11 @@ import com.robinloom.jweaver.Weaver;
 import com.robinloom.jweaver.WeavingContext;
 import com.robinloom.jweaver.ast.*;
 import com.robinloom.jweaver.ast.nodes.*;
+import com.robinloom.jweaver.util.OutputSizeEstimator;
 import org.jspecify.annotations.NonNull;
 
-import java.util.ArrayList;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 /**
@@ -47,13 +49,26 @@ import java.util.List;
  * Traversal and structure are provided by {@link ReflectiveAST}, ensuring
  * consistent handling of cycles, depth limits, and collections.
  * <p>
- * This weaver is stateful during rendering but intended to be used per
- * invocation.
+ * The output buffer is presized to the {@link OutputSizeEstimator estimated}
+ * output length of the woven class.
+ * <p>
+ * This weaver is stateless and thread-safe; a single instance is shared by
+ * {@code ModeDispatcher}.
  */
 public class TreeWeaver implements Weaver {
 
-    private final ReflectiveAST ast = new ReflectiveAST();
-    private StringBuilder sb = new StringBuilder();
+    private static final int MIN_CAPACITY = 16;
+    private static final OutputSizeEstimator SIZES = new OutputSizeEstimator();
+
+    private final ReflectiveAST ast;
+
+    public TreeWeaver() {
+        this(ASTOptions.defaultOptions());
+    }
+
+    public TreeWeaver(ASTOptions options) {
+        this.ast = new ReflectiveAST(options);
+    }
 
     /**
      * Produces a tree-style representation of the given object.
@@ -64,51 +79,98 @@ public class TreeWeaver implements Weaver {
      */
     @Override
     public String weave(@NonNull Object object, WeavingContext ctx) {
-        ReflectiveNode tree = ast.build(object, ctx);
-
-        List<Boolean> siblingsAtCurrentLevel = new ArrayList<>();
-
-        sb = new StringBuilder();
-        traverseDepthFirst(tree, siblingsAtCurrentLevel);
-        if (sb.charAt(sb.length() - 1) == '\n') {
-            sb.deleteCharAt(sb.length() - 1);
+        Class<?> type = object.getClass();
+        StringBuilder sb = new StringBuilder(Math.max(MIN_CAPACITY, SIZES.estimate(type)));
+        try {
+            render(ast.build(object, ctx), sb);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
 
+        SIZES.record(type, sb.length());
         return sb.toString();
     }
 
-    private void traverseDepthFirst(ReflectiveNode node, List<Boolean> siblingsAtCurrentLevel) {
-        for (int i = 0; i < siblingsAtCurrentLevel.size() - 1; i++) {
-            if (siblingsAtCurrentLevel.get(i)) {
-                sb.append("|");
-                sb.append("   ");
-            } else {
-                sb.append("    ");
-            }
-        }
-
-        if (node.isLastChild()) {
-            sb.append("`-- ");
-        } else if (!node.isRoot()) {
-            sb.append("|-- ");
-        }
+    /**
+     * Writes the tree-style representation of the given object to the target.
+     * <p>
+     * Lines are written to the target as they are rendered.
+     *
+     * @param object the object to render
+     * @param ctx the current weaving context
+     * @param out the target to append the representation to
+     * @throws IOException if appending to the target fails
+     */
+    @Override
+    public void weaveTo(@NonNull Object object, WeavingContext ctx, Appendable out) throws IOException {
+        render(ast.build(object, ctx), out);
+    }
 
-        if (node.getIndex() != null) {
-            sb.append("[").append(node.getIndex()).append("] ");
+    /**
+     * Renders a node tree in the tree-style format.
+     * <p>
+     * Used for trees that were not built from a live object, e.g. decoded
+     * from their binary form.
+     *
+     * @param tree the root of the tree to render
+     * @return a multi-line, structured representation of the tree
+     */
+    public static String render(ReflectiveNode tree) {
+        StringBuilder sb = new StringBuilder();
+        try {
+            render(tree, sb);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
+        return sb.toString();
+    }
 
-        sb.append(node);
-        sb.append('\n');
+    /**
+     * Writes a node tree in the tree-style format to the target.
+     *
+     * @param tree the root of the tree to render
+     * @param out the target to append the representation to
+     * @throws IOException if appending to the target fails
+     */
+    public static void render(ReflectiveNode tree, Appendable out) throws IOException {
+        label(tree, out);
+        renderChildren(tree, new StringBuilder(), out);
+    }
 
+    /**
+     * Renders the children of a node, each on a new line.
+     * <p>
+     * The indentation of all lines below the node is held in a single prefix
+     * buffer: every level appends its four columns before descending and
+     * truncates them again on return, so the prefix is never rebuilt.
+     *
+     * @param node the node whose children to render
+     * @param prefix the indentation of the node's children
+     * @param out the output target
+     */
+    private static void renderChildren(ReflectiveNode node, StringBuilder prefix, Appendable out) throws IOException {
         List<ReflectiveNode> children = node.getChildren();
 
         for (int i = 0; i < children.size(); i++) {
             ReflectiveNode child = children.get(i);
+            boolean last = i == children.size() - 1;
 
-            List<Boolean> siblingsAtNextLevel = new ArrayList<>(siblingsAtCurrentLevel);
+            out.append('\n').append(prefix).append(last ? "`-- " : "|-- ");
+            label(child, out);
 
-            siblingsAtNextLevel.add(i < children.size() - 1);
-            traverseDepthFirst(child, siblingsAtNextLevel);
+            if (child.hasChildren()) {
+                int length = prefix.length();
+                prefix.append(last ? "    " : "|   ");
+                renderChildren(child, prefix, out);
+                prefix.setLength(length);
+            }
+        }
+    }
+
+    private static void label(ReflectiveNode node, Appendable out) throws IOException {
+        if (node.getIndex() != null) {
+            out.append('[').append(String.valueOf(node.getIndex())).append("] ");
         }
+        out.append(node.toString());
     }
 }
@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) 2026 Robin Kösters
+ * mail[at]robinloom[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.robinloom.jweaver.util;
+
+/**
+ * Per-class moving average of rendered output lengths.
+ * <p>
+ * Weavers record the length of every top-level output and use the estimate to
+ * presize their buffer before the next object of the same class is rendered,
+ * so large outputs do not grow the buffer by repeated doubling.
+ * <p>
+ * The average is exponentially weighted, with each new sample contributing
+ * one eighth. Estimates are kept in a {@link ClassValue} and updated without
+ * synchronization; a lost update merely delays adaptation.
+ */
+public final class OutputSizeEstimator {
+
+    private static final int WEIGHT_SHIFT = 3;
+
+    private final ClassValue<Average> averages = new ClassValue<>() {
+        @Override
+        protected Average computeValue(Class<?> type) {
+            return new Average();
+        }
+    };
+
+    /**
+     * Returns the capacity to reserve for rendering an instance of the class.
+     * <p>
+     * The estimate includes a quarter of headroom above the average, so outputs
+     * slightly longer than usual still fit.
+     *
+     * @param type the class about to be rendered
+     * @return the expected output length, or {@code 0} if nothing was recorded yet
+     */
+    public int estimate(Class<?> type) {
+        int average = averages.get(type).value;
+        return average + (average >> 2);
+    }
+
+    /**
+     * Records the output length of a rendered instance of the class.
+     *
+     * @param type the rendered class
+     * @param length the length of the output
+     */
+    public void record(Class<?> type, int length) {
+        Average average = averages.get(type);
+        int current = average.value;
+        average.value = current == 0 ? length : current + ((length - current) >> WEIGHT_SHIFT);
+    }
+
+    private static final class Average {
+        private int value;
+    }
+}
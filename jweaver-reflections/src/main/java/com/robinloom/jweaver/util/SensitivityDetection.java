@@ -26,21 +26,20 @@ public final class SensitivityDetection {
     private SensitivityDetection() {}
 
     public static boolean isSensitive(Field field) {
-        return isSensitiveByAnnotation(field) || isSensitiveByType(field) || isSensitiveByName(field);
+        return isSensitive(field.getName(), field.getType(), field.isAnnotationPresent(WeaveRedact.class));
     }
 
-    private static boolean isSensitiveByAnnotation(Field field) {
-        return field.isAnnotationPresent(WeaveRedact.class);
+    public static boolean isSensitive(String fieldName, Class<?> type, boolean redacted) {
+        return redacted || isSensitiveByType(type) || isSensitiveByName(fieldName);
     }
 
-    private static boolean isSensitiveByType(Field field) {
-        Class<?> type = field.getType();
+    private static boolean isSensitiveByType(Class<?> type) {
         return type == char[].class || type == byte[].class;
     }
 
-    private static boolean isSensitiveByName(Field field) {
+    private static boolean isSensitiveByName(String fieldName) {
         return Set.of("password", "passwd", "pwd", "secret", "token",
                       "apiKey", "apikey", "privateKey", "privatekey")
-                .contains(field.getName());
+                .contains(fieldName);
     }
 }
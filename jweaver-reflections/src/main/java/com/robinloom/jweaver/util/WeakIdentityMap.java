@@ -0,0 +1,160 @@
+/*
+ * Copyright (C) 2026 Robin Kösters
+ * mail[at]robinloom[dot]com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.robinloom.jweaver.util;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded map keyed by object identity that holds its keys weakly.
+ * <p>
+ * Entries of collected keys are removed on the next access. Beyond its
+ * maximum size, the least recently used entry is evicted. All methods are
+ * thread-safe.
+ *
+ * @param <V> the type of values
+ */
+public final class WeakIdentityMap<V> {
+
+    private final ReferenceQueue<Object> collected = new ReferenceQueue<>();
+    private final LinkedHashMap<Key, V> entries;
+    private final int maximumSize;
+
+    /**
+     * Creates an empty map.
+     *
+     * @param maximumSize the maximum number of entries
+     */
+    public WeakIdentityMap(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be positive");
+        }
+
+        this.maximumSize = maximumSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, V> eldest) {
+                return size() > WeakIdentityMap.this.maximumSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the value associated with the given object.
+     *
+     * @param key the object to look up by identity
+     * @return the value, or {@code null} if absent
+     */
+    public synchronized V get(Object key) {
+        expunge();
+        return entries.get(new Probe(key));
+    }
+
+    /**
+     * Associates the value with the given object.
+     *
+     * @param key the object, held weakly
+     * @param value the value to store
+     */
+    public synchronized void put(Object key, V value) {
+        expunge();
+        entries.put(new WeakKey(key, collected), value);
+    }
+
+    /**
+     * Returns the number of live entries.
+     *
+     * @return the current size
+     */
+    public synchronized int size() {
+        expunge();
+        return entries.size();
+    }
+
+    /**
+     * Returns the maximum number of entries.
+     *
+     * @return the size limit
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    private void expunge() {
+        Reference<?> reference;
+        while ((reference = collected.poll()) != null) {
+            entries.remove(reference);
+        }
+    }
+
+    private interface Key {
+        Object referent();
+
+        static boolean matches(Key key, Object other) {
+            if (key == other) {
+                return true;
+            }
+            if (!(other instanceof Key that)) {
+                return false;
+            }
+
+            Object referent = key.referent();
+            return referent != null && referent == that.referent();
+        }
+    }
+
+    private static final class WeakKey extends WeakReference<Object> implements Key {
+
+        private final int hash;
+
+        WeakKey(Object referent, ReferenceQueue<Object> queue) {
+            super(referent, queue);
+            this.hash = System.identityHashCode(referent);
+        }
+
+        @Override
+        public Object referent() {
+            return get();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return Key.matches(this, other);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private record Probe(Object referent) implements Key {
+
+        @Override
+        public boolean equals(Object other) {
+            return Key.matches(this, other);
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(referent);
+        }
+    }
+}
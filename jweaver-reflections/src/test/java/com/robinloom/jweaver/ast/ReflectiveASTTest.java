@@ -32,6 +32,39 @@ public class ReflectiveASTTest {
         Assertions.assertEquals(3, result.getChildren().size());
     }
 
+    @Test
+    void testPrimitiveArraysRenderOnlyThePrefix() {
+        double[] doubles = new double[1_000_000];
+        doubles[1] = 0.5;
+
+        ReflectiveAST ast = new ReflectiveAST();
+        ReflectiveNode result = ast.build(doubles, dummyContext());
+
+        Assertions.assertEquals("double[1000000]", result.toString());
+        Assertions.assertEquals(11, result.getChildren().size());
+        Assertions.assertEquals("0.5", result.getChildren().get(1).toString());
+        Assertions.assertEquals(1, result.getChildren().get(1).getIndex());
+        Assertions.assertEquals("999990 more", result.getChildren().getLast().toString());
+
+        ReflectiveNode floats = ast.build(new float[]{1.1f}, dummyContext());
+        Assertions.assertEquals("1.1", floats.getChildren().getFirst().toString());
+
+        ReflectiveNode chars = ast.build(new char[]{'a', 'b'}, dummyContext());
+        Assertions.assertEquals("b", chars.getChildren().getLast().toString());
+    }
+
+    @Test
+    void testObjectArrayExpansion() {
+        Object[] array = new Object[]{"one", null, List.of(1)};
+
+        ReflectiveAST ast = new ReflectiveAST();
+        ReflectiveNode result = ast.build(array, dummyContext());
+
+        Assertions.assertEquals(3, result.getChildren().size());
+        Assertions.assertEquals("null", result.getChildren().get(1).toString());
+        Assertions.assertInstanceOf(SequenceNode.class, result.getChildren().get(2));
+    }
+
     @Test
     void testListExpansion() {
         List<String> list = new ArrayList<>();
@@ -126,6 +159,34 @@ public class ReflectiveASTTest {
         Assertions.assertTrue(child.getChildren().isEmpty(), "Self reference must not recurse infinitely");
     }
 
+    @Test
+    void testReentrantBuildKeepsOuterTraversalState() {
+        class Node {
+            @SuppressWarnings("unused")
+            String label = "reenter";
+            Node next;
+        }
+
+        Node a = new Node();
+        a.next = a;
+
+        ReflectiveAST ast = new ReflectiveAST();
+        WeavingContext ctx = new WeavingContext(
+                Mode.TREE,
+                _ -> null,
+                _ -> (value, c) -> "reenter".equals(value)
+                        ? ast.build(List.of(1, 2), c).toString()
+                        : value.toString(),
+                true
+        );
+
+        ReflectiveNode root = ast.build(a, ctx);
+
+        Assertions.assertInstanceOf(ObjectNode.class, root);
+        Assertions.assertEquals("label=List[2]", root.getChildren().getFirst().toString());
+        Assertions.assertTrue(root.getChildren().get(1).getChildren().isEmpty(), "Cycle should stop traversal");
+    }
+
     @Test
     void testMaxDepthIsRespected() {
         class Node {
@@ -164,6 +225,25 @@ public class ReflectiveASTTest {
         Assertions.assertTrue(last.toString().contains("more"));
     }
 
+    @Test
+    void testNodeBudgetTruncatesTraversal() {
+        record Row(List<Integer> values, String name) {}
+        record Table(Row first, Row second) {}
+
+        Table table = new Table(new Row(List.of(1, 2, 3), "a"), new Row(List.of(4), "b"));
+
+        ASTOptions options = new ASTOptions(10, 10, 4);
+        ReflectiveAST ast = new ReflectiveAST(options);
+
+        ReflectiveNode root = ast.build(table, dummyContext());
+
+        Assertions.assertEquals(1, root.getChildren().size(), "Second row must not be visited");
+
+        ReflectiveNode values = root.getChildren().getFirst().getChildren().getFirst();
+        Assertions.assertEquals(2, values.getChildren().size());
+        Assertions.assertEquals(ReflectiveAST.TRUNCATION_MARKER, values.getChildren().getLast().toString());
+    }
+
     @Test
     void testMapEntries() {
         Map<String, Integer> map = Map.of("a", 1, "b", 2);
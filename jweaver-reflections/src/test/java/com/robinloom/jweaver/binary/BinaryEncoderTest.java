@@ -0,0 +1,95 @@
+package com.robinloom.jweaver.binary;
+
+import com.robinloom.jweaver.Mode;
+import com.robinloom.jweaver.WeavingContext;
+import com.robinloom.jweaver.ast.nodes.ReflectiveNode;
+import com.robinloom.jweaver.inline.InlineWeaver;
+import com.robinloom.jweaver.tree.TreeWeaver;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class BinaryEncoderTest {
+
+    private WeavingContext dummyContext() {
+        return new WeavingContext(
+                Mode.INLINE,
+                _ -> null,
+                _ -> (value, _) -> {
+                    if ("boom".equals(value)) {
+                        throw new IllegalStateException();
+                    }
+                    return value.toString();
+                },
+                true
+        );
+    }
+
+    record Address(String city, List<String> lines) {}
+    record Customer(String name, int age, long id, double score, float ratio, Address address,
+                    Map<String, Object> attributes, short[] codes, double[] weights) {}
+    record Holder(String name, List<String> values, int count) {}
+
+    private Customer customer(String name) {
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        attributes.put("tags", List.of(1));
+        attributes.put("home", new Address("Berlin", List.of()));
+        attributes.put("none", null);
+
+        return new Customer(name, -42, Long.MIN_VALUE, Double.NaN, 0.1f, new Address("Bonn", List.of("a", "b")),
+                attributes, new short[] {-1, 300}, new double[] {1e300});
+    }
+
+    @Test
+    void testDecodedTreeRendersLikeDirectWeave() throws IOException {
+        List<Object> objects = List.of(customer("Jane"), new Holder("h", List.of("ok", "boom"), 2), "plain");
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (BinaryEncoder encoder = new BinaryEncoder(bytes)) {
+            for (Object object : objects) {
+                encoder.encode(object, dummyContext());
+            }
+            encoder.encode(null, dummyContext());
+        }
+
+        try (BinaryDecoder decoder = new BinaryDecoder(new ByteArrayInputStream(bytes.toByteArray()))) {
+            for (Object object : objects) {
+                ReflectiveNode tree = decoder.read();
+                Assertions.assertNotNull(tree);
+                Assertions.assertEquals(new InlineWeaver().weave(object, dummyContext()),
+                        BinaryDecoder.render(tree, Mode.INLINE));
+                Assertions.assertEquals(new TreeWeaver().weave(object, dummyContext()),
+                        BinaryDecoder.render(tree, Mode.TREE));
+            }
+
+            Assertions.assertEquals("null", BinaryDecoder.render(decoder.read(), Mode.INLINE));
+            Assertions.assertNull(decoder.read());
+        }
+    }
+
+    @Test
+    void testNamesAreWrittenOncePerStream() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (BinaryEncoder encoder = new BinaryEncoder(bytes)) {
+            encoder.encode(customer("Jane"), dummyContext());
+            int first = bytes.size();
+
+            encoder.encode(customer("John"), dummyContext());
+            int second = bytes.size() - first;
+
+            Assertions.assertTrue(second < first * 2 / 3, "second record should reference interned names");
+        }
+
+        String text = new InlineWeaver().weave(customer("John"), dummyContext());
+        try (BinaryDecoder decoder = new BinaryDecoder(new ByteArrayInputStream(bytes.toByteArray()))) {
+            decoder.read();
+            Assertions.assertEquals(text, BinaryDecoder.render(decoder.read(), Mode.INLINE));
+        }
+    }
+}
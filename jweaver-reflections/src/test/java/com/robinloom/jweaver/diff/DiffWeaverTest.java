@@ -0,0 +1,99 @@
+package com.robinloom.jweaver.diff;
+
+import com.robinloom.jweaver.Mode;
+import com.robinloom.jweaver.WeavingContext;
+import com.robinloom.jweaver.ast.ASTOptions;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class DiffWeaverTest {
+
+    private WeavingContext dummyContext(DiffWeaver weaver) {
+        return new WeavingContext(
+                Mode.DIFF,
+                _ -> null,
+                _ -> (value, ctx) -> ctx.getTraversal() == null ? weaver.weave(value, ctx) : value.toString(),
+                true
+        );
+    }
+
+    static class Address {
+        String city = "Bonn";
+    }
+
+    static class Order {
+        String status = "NEW";
+        Address address = new Address();
+        List<String> items = new ArrayList<>(List.of("a"));
+        Map<String, Integer> counts = new LinkedHashMap<>(Map.of("x", 1));
+    }
+
+    @Test
+    void testReportsOnlyChangedPaths() {
+        DiffWeaver weaver = new DiffWeaver();
+        WeavingContext ctx = dummyContext(weaver);
+        Order order = new Order();
+
+        Assertions.assertEquals(
+                "Order[status=NEW, address=Address, address.city=Bonn, items=List[1], items[0]=a, "
+                        + "counts=Map[1], counts.x=1]",
+                ctx.weave(order));
+        Assertions.assertEquals("Order[unchanged]", ctx.weave(order));
+
+        order.status = "SHIPPED";
+        order.address.city = "Berlin";
+        order.items.add("b");
+        order.counts.put("x", 2);
+        Assertions.assertEquals(
+                "Order[status=SHIPPED, address.city=Berlin, items=List[2], items[1]=b, counts.x=2]",
+                ctx.weave(order));
+
+        order.address = null;
+        order.items.clear();
+        Assertions.assertEquals("Order[address=null, items=List[0], 3 removed]", ctx.weave(order));
+    }
+
+    @Test
+    void testTracksInstancesSeparately() {
+        DiffWeaver weaver = new DiffWeaver();
+        WeavingContext ctx = dummyContext(weaver);
+        Address first = new Address();
+        Address second = new Address();
+
+        Assertions.assertEquals("Address[city=Bonn]", ctx.weave(first));
+        Assertions.assertEquals("Address[city=Bonn]", ctx.weave(second));
+
+        second.city = "Köln";
+        Assertions.assertEquals("Address[unchanged]", ctx.weave(first));
+        Assertions.assertEquals("Address[city=Köln]",
+                weaver.withOptions(ASTOptions.defaultOptions()).weave(second, ctx),
+                "Reconfigured weaver must keep the history");
+    }
+
+    static class Sample {
+        int a = 1;
+        int b = 2;
+        int c = 3;
+    }
+
+    @Test
+    void testMarksTruncatedTraversal() {
+        DiffWeaver weaver = new DiffWeaver(ASTOptions.defaultOptions().withMaxNodes(3));
+        WeavingContext ctx = dummyContext(weaver);
+        Sample sample = new Sample();
+
+        Assertions.assertEquals("Sample[a=1, b=2, ...]", ctx.weave(sample));
+
+        sample.c = 4;
+        Assertions.assertEquals("Sample[...]", ctx.weave(sample),
+                "A change past the cut must not be reported as unchanged");
+
+        sample.a = 5;
+        Assertions.assertEquals("Sample[a=5, ...]", ctx.weave(sample));
+    }
+}
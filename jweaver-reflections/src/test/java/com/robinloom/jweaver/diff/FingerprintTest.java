@@ -0,0 +1,35 @@
+package com.robinloom.jweaver.diff;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class FingerprintTest {
+
+    private static PathCollector collect(int size) {
+        PathCollector collector = new PathCollector();
+        collector.beginSequence(null, null, int[].class, size);
+        for (int i = 0; i < size; i++) {
+            collector.property(null, i, "v" + (i % 7));
+        }
+        collector.endSequence();
+        return collector;
+    }
+
+    @Test
+    void testFindsEveryRecordedPath() {
+        for (int size : new int[] {0, 1, 2, 3, 17, 1000}) {
+            Fingerprint fingerprint = Fingerprint.of(collect(size));
+            for (int i = 0; i < size; i++) {
+                Assertions.assertTrue(fingerprint.contains("[" + i + "]", "v" + (i % 7)), "[" + i + "]");
+                Assertions.assertFalse(fingerprint.contains("[" + i + "]", "w"), "[" + i + "]");
+            }
+            Assertions.assertFalse(fingerprint.contains("[" + size + "]", "v0"));
+        }
+    }
+
+    @Test
+    void testCountsRemovedPaths() {
+        Assertions.assertEquals(990, Fingerprint.of(collect(1000)).countRemoved(Fingerprint.of(collect(10))));
+        Assertions.assertEquals(0, Fingerprint.of(collect(10)).countRemoved(Fingerprint.of(collect(1000))));
+    }
+}
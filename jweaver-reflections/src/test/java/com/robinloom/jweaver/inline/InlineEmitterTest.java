@@ -0,0 +1,108 @@
+package com.robinloom.jweaver.inline;
+
+import com.robinloom.jweaver.Mode;
+import com.robinloom.jweaver.WeavingContext;
+import com.robinloom.jweaver.ast.ReflectiveAST;
+import com.robinloom.jweaver.ast.nodes.MapEntryNode;
+import com.robinloom.jweaver.ast.nodes.ReflectiveNode;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.stream.IntStream;
+
+public class InlineEmitterTest {
+
+    private WeavingContext dummyContext() {
+        return new WeavingContext(
+                Mode.INLINE,
+                _ -> null,
+                _ -> (value, _) -> {
+                    if ("boom".equals(value)) {
+                        throw new IllegalStateException();
+                    }
+                    return value.toString();
+                },
+                true
+        );
+    }
+
+    private String stream(Object object) {
+        StringBuilder sb = new StringBuilder();
+        new ReflectiveAST().traverse(object, dummyContext(), new InlineEmitter(sb));
+        return sb.toString();
+    }
+
+    private String fromTree(Object object) {
+        StringBuilder sb = new StringBuilder();
+        render(new ReflectiveAST().build(object, dummyContext()), sb);
+        return sb.toString();
+    }
+
+    private void render(ReflectiveNode node, StringBuilder sb) {
+        sb.append(node);
+
+        if (node instanceof MapEntryNode) {
+            sb.append("=");
+        } else if (node.hasChildren()) {
+            sb.append("[");
+        } else if (!node.isLastChild() && !node.isRoot()) {
+            sb.append(", ");
+        }
+
+        for (ReflectiveNode child : node.getChildren()) {
+            render(child, sb);
+        }
+
+        if (node.hasChildren() && !(node instanceof MapEntryNode)) {
+            sb.append("]");
+
+            if (!node.isLastChild() && !node.isRoot()) {
+                sb.append(", ");
+            }
+        }
+    }
+
+    record Address(String city, List<String> lines) {}
+    record Customer(String name, int age, Address address, Map<String, Object> attributes) {}
+    record Holder(String name, List<String> values, int count) {}
+
+    static class Cycle {
+        String name = "cycle";
+        Cycle self = this;
+    }
+
+    @Test
+    void testNestedObjectMatchesTree() {
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        attributes.put("tags", List.of(1));
+        attributes.put("home", new Address("Berlin", List.of()));
+        attributes.put("level", 3);
+        attributes.put("none", null);
+
+        Customer customer = new Customer("Jane", 42, new Address("Bonn", List.of("a", "b")), attributes);
+
+        Assertions.assertEquals(fromTree(customer), stream(customer));
+    }
+
+    @Test
+    void testSequencesMatchTree() {
+        List<Integer> wide = IntStream.range(0, 100).boxed().toList();
+        Object[] mixed = {null, "x", new Address("Bonn", null), Map.entry("k", List.of(1, 2))};
+
+        Assertions.assertEquals(fromTree(wide), stream(wide));
+        Assertions.assertEquals(fromTree(mixed), stream(mixed));
+        Assertions.assertEquals(fromTree(new int[0]), stream(new int[0]));
+        Assertions.assertEquals(fromTree(new Cycle()), stream(new Cycle()));
+    }
+
+    @Test
+    void testFailingFieldIsRolledBack() {
+        Holder holder = new Holder("h", List.of("ok", "boom"), 2);
+
+        String streamed = stream(holder);
+
+        Assertions.assertEquals(fromTree(holder), streamed);
+        Assertions.assertEquals("Holder[name=h, [?]=[?], count=2]", streamed);
+    }
+}
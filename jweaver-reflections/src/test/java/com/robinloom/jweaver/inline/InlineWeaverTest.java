@@ -0,0 +1,177 @@
+package com.robinloom.jweaver.inline;
+
+import com.robinloom.jweaver.Mode;
+import com.robinloom.jweaver.TypeWeaver;
+import com.robinloom.jweaver.WeavingContext;
+import com.robinloom.jweaver.ast.ASTOptions;
+import com.robinloom.jweaver.ast.ReflectiveAST;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class InlineWeaverTest {
+
+    static class Node {
+        @SuppressWarnings("unused")
+        String label = "self";
+    }
+
+    @Test
+    void testNestedWeaveContinuesTraversal() {
+        Node node = new Node();
+        InlineWeaver weaver = new InlineWeaver();
+
+        TypeWeaver selfReference = new TypeWeaver() {
+            @Override
+            public Class<?> targetType() {
+                return String.class;
+            }
+
+            @Override
+            public String weave(Object object, WeavingContext ctx) {
+                return ctx.weave(node);
+            }
+        };
+
+        WeavingContext ctx = new WeavingContext(
+                Mode.INLINE,
+                type -> type == String.class ? selfReference : null,
+                _ -> weaver,
+                true
+        );
+
+        Assertions.assertEquals("Node[label=Node]", ctx.weave(node));
+        Assertions.assertEquals("Node[label=Node]", ctx.weave(node), "Traversal state must be released");
+    }
+
+    @Test
+    void testContextTracksNestingWithoutCopies() {
+        List<Boolean> seen = new ArrayList<>();
+
+        TypeWeaver recorder = new TypeWeaver() {
+            @Override
+            public Class<?> targetType() {
+                return String.class;
+            }
+
+            @Override
+            public String weave(Object object, WeavingContext ctx) {
+                seen.add(ctx.isRoot());
+                return object.toString();
+            }
+        };
+
+        WeavingContext ctx = new WeavingContext(
+                Mode.INLINE,
+                type -> type == String.class ? recorder : null,
+                _ -> new InlineWeaver(),
+                true
+        );
+
+        Assertions.assertEquals("Node[label=self]", ctx.weave(new Node()));
+        Assertions.assertEquals(List.of(false), seen);
+        Assertions.assertTrue(ctx.isRoot());
+        Assertions.assertNull(ctx.getTraversal());
+    }
+
+    record Item(String sku, int quantity, List<String> tags) {}
+    record Order(String id, List<Item> items, Map<String, Item> byKey, Item featured, Order parent) {}
+
+    static class Loop {
+        @SuppressWarnings("unused")
+        final List<Loop> children = new ArrayList<>();
+    }
+
+    @Test
+    void testParallelTraversalMatchesSequential() {
+        Item shared = new Item("shared", 1, List.of("x", "y"));
+        List<Item> items = IntStream.range(0, 12)
+                .mapToObj(i -> new Item("sku-" + i, i, List.of("t" + i)))
+                .collect(Collectors.toList());
+        items.add(3, shared);
+
+        Map<String, Item> byKey = new LinkedHashMap<>();
+        byKey.put("a", shared);
+        byKey.put("b", items.get(5));
+
+        Order parent = new Order("parent", List.of(shared), Map.of(), shared, null);
+        Order order = new Order("order", items, byKey, shared, parent);
+
+        Loop loop = new Loop();
+        loop.children.add(loop);
+        loop.children.add(new Loop());
+
+        WeavingContext ctx = new WeavingContext(Mode.INLINE, _ -> null, _ -> (value, _) -> value.toString(), true);
+
+        for (int maxNodes = 1; maxNodes < 120; maxNodes += 7) {
+            ASTOptions options = ASTOptions.defaultOptions().withMaxNodes(maxNodes);
+            InlineWeaver sequential = new InlineWeaver(options);
+            InlineWeaver parallel = new InlineWeaver(options.withParallel(true));
+
+            Assertions.assertEquals(sequential.weave(order, ctx), parallel.weave(order, ctx));
+            Assertions.assertEquals(sequential.weave(loop, ctx), parallel.weave(loop, ctx));
+        }
+    }
+
+    record Inner(String name, List<Integer> values) {}
+    record Outer(Inner inner, Map<String, Inner> byName, String after) {}
+
+    @Test
+    void testTruncationMarkerIsLastToken() {
+        Inner inner = new Inner("i", List.of(1, 2, 3));
+        Outer outer = new Outer(inner, Map.of("k", inner), "after");
+        WeavingContext ctx = new WeavingContext(Mode.INLINE, _ -> null, _ -> (value, _) -> value.toString(), true);
+
+        for (int maxNodes = 0; maxNodes < 14; maxNodes++) {
+            ASTOptions options = ASTOptions.defaultOptions().withMaxNodes(maxNodes);
+            String woven = new InlineWeaver(options).weave(outer, ctx);
+
+            Assertions.assertTrue(woven.endsWith(ReflectiveAST.TRUNCATION_MARKER), woven);
+            Assertions.assertEquals(woven.length() - ReflectiveAST.TRUNCATION_MARKER.length(),
+                                    woven.indexOf(ReflectiveAST.TRUNCATION_MARKER), woven);
+            Assertions.assertEquals(woven, InlineWeaver.render(new ReflectiveAST(options).build(outer, ctx)));
+        }
+
+        ASTOptions options = ASTOptions.defaultOptions().withMaxNodes(5);
+        Assertions.assertEquals("Outer[inner=Inner[name=i, values=List[3][1]]]...",
+                                new InlineWeaver(options).weave(outer, ctx));
+    }
+
+    record Numbers(int a, Integer b, int[] c, List<Integer> d) {}
+
+    record FlatNumbers(int a, long b) {}
+
+    @Test
+    void testNumberWeaverAppliesToPrimitives() {
+        InlineWeaver weaver = new InlineWeaver();
+        TypeWeaver hashed = new TypeWeaver() {
+            @Override
+            public Class<?> targetType() {
+                return Integer.class;
+            }
+
+            @Override
+            public String weave(Object object, WeavingContext ctx) {
+                return "#" + object;
+            }
+        };
+
+        WeavingContext ctx = new WeavingContext(
+                Mode.INLINE,
+                type -> type == Integer.class ? hashed : null,
+                _ -> weaver,
+                true
+        );
+
+        Assertions.assertEquals("Numbers[a=#7, b=#7, c=int[1][#7], d=List[1][#7]]",
+                                ctx.weave(new Numbers(7, 7, new int[] {7}, List.of(7))));
+        Assertions.assertEquals("FlatNumbers[a=#7, b=8]", ctx.weave(new FlatNumbers(7, 8L)));
+        Assertions.assertEquals("long[2][1, 2]", ctx.weave(new long[] {1, 2}));
+    }
+}
@@ -0,0 +1,104 @@
+package com.robinloom.jweaver.inline;
+
+import com.robinloom.jweaver.Mode;
+import com.robinloom.jweaver.TraversalContext;
+import com.robinloom.jweaver.WeavingContext;
+import com.robinloom.jweaver.ast.ASTOptions;
+import com.robinloom.jweaver.ast.ReflectiveAST;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public class SpecializedInlineWeaverTest {
+
+    private WeavingContext dummyContext() {
+        return new WeavingContext(
+                Mode.INLINE,
+                _ -> null,
+                _ -> (value, _) -> "<" + value + ">",
+                true
+        );
+    }
+
+    private String specialized(Class<?> type, Object object) {
+        return specialized(type, object, Integer.MAX_VALUE);
+    }
+
+    private String specialized(Class<?> type, Object object, int maxNodes) {
+        WeavingContext ctx = dummyContext();
+        ctx.setTraversal(new TraversalContext(5, maxNodes));
+        StringBuilder sb = new StringBuilder();
+        SpecializedInlineWeaver.compile(type).weave(object, ctx, sb);
+        if (ctx.getTraversal().isTruncated()) {
+            sb.append(ReflectiveAST.TRUNCATION_MARKER);
+        }
+        return sb.toString();
+    }
+
+    enum Level { LOW, HIGH }
+
+    @SuppressWarnings("unused")
+    static class Flat {
+        int id = 7;
+        long total = 1234567890123L;
+        double ratio = 0.5;
+        boolean active = true;
+        String name = "flat";
+        String missing = null;
+        String password = "secret";
+        int token = 99;
+        Level level = Level.HIGH;
+        LocalDate date = LocalDate.of(2026, 1, 1);
+    }
+
+    @SuppressWarnings("unused")
+    static class Nested {
+        String name = "nested";
+        List<String> tags = List.of("a");
+    }
+
+    static class Empty {}
+
+    @Test
+    void testOutputMatchesGeneralPath() {
+        Flat flat = new Flat();
+
+        String general = new InlineWeaver().weave(flat, dummyContext());
+        String specialized = specialized(Flat.class, flat);
+
+        Assertions.assertEquals(general, specialized);
+    }
+
+    @Test
+    void testEmptyClassMatchesGeneralPath() {
+        Empty empty = new Empty();
+
+        String general = new InlineWeaver().weave(empty, dummyContext());
+        String specialized = specialized(Empty.class, empty);
+
+        Assertions.assertEquals(general, specialized);
+    }
+
+    @Test
+    void testNodeBudgetMatchesGeneralPath() {
+        Flat flat = new Flat();
+
+        for (int maxNodes = 0; maxNodes < 4; maxNodes++) {
+            ASTOptions options = ASTOptions.defaultOptions().withMaxDepth(5).withMaxNodes(maxNodes);
+
+            String general = new InlineWeaver(options).weave(flat, dummyContext());
+            String specialized = specialized(Flat.class, flat, maxNodes);
+
+            Assertions.assertEquals(general, specialized);
+        }
+    }
+
+    @Test
+    void testNonFlatClassesAreNotSpecialized() {
+        Assertions.assertNull(SpecializedInlineWeaver.compile(Nested.class));
+        Assertions.assertNull(SpecializedInlineWeaver.compile(java.util.ArrayList.class));
+        Assertions.assertNull(SpecializedInlineWeaver.compile(String.class));
+    }
+}
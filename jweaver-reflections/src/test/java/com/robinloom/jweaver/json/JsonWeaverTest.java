@@ -0,0 +1,145 @@
+package com.robinloom.jweaver.json;
+
+import com.robinloom.jweaver.Mode;
+import com.robinloom.jweaver.WeavingContext;
+import com.robinloom.jweaver.ast.ASTOptions;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class JsonWeaverTest {
+
+    private WeavingContext dummyContext(JsonWeaver weaver) {
+        return new WeavingContext(
+                Mode.JSON,
+                _ -> null,
+                _ -> (value, ctx) -> ctx.getTraversal() == null ? weaver.weave(value, ctx) : render(value),
+                true
+        );
+    }
+
+    private static String render(Object value) {
+        return value instanceof Enum<?> ? "<" + value + ">" : value.toString();
+    }
+
+    record Address(String city, int zip) {}
+    record Customer(String name, Integer age, boolean active, double score, Address address,
+                    List<String> tags, Map<String, Object> attributes, int[] codes, Object missing) {}
+
+    @Test
+    void testWritesTypedValues() {
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        attributes.put("level", 3L);
+        attributes.put("price", new BigDecimal("9.90"));
+        attributes.put("home", new Address("Bonn", 53111));
+        attributes.put("none", null);
+
+        Customer customer = new Customer("Jane", 42, true, Double.NaN, new Address("Köln", 50667),
+                List.of("a", "b"), attributes, new int[] {1, 2}, null);
+
+        JsonWeaver weaver = new JsonWeaver();
+        Assertions.assertEquals(
+                "{\"name\":\"Jane\",\"age\":42,\"active\":true,\"score\":\"NaN\","
+                        + "\"address\":{\"city\":\"Köln\",\"zip\":50667},\"tags\":[\"a\",\"b\"],"
+                        + "\"attributes\":{\"level\":3,\"price\":9.90,\"home\":{\"city\":\"Bonn\",\"zip\":53111},\"none\":null},"
+                        + "\"codes\":[1,2],\"missing\":null}",
+                weaver.weave(customer, dummyContext(weaver)));
+    }
+
+    record Note(String text, Object payload) {}
+
+    @Test
+    void testEscapesStringsInPlace() {
+        Note note = new Note("say \"hi\"\\\n\tnow\u0001", Thread.State.NEW);
+
+        JsonWeaver weaver = new JsonWeaver();
+        Assertions.assertEquals(
+                "{\"text\":\"say \\\"hi\\\"\\\\\\n\\tnow\\u0001\",\"payload\":\"<NEW>\"}",
+                weaver.weave(note, dummyContext(weaver)));
+    }
+
+    record Holder(List<Object> items, Map<String, Integer> wide) {}
+
+    @Test
+    void testWrapsEntriesAndMarksOverflow() {
+        Map<String, Integer> wide = new LinkedHashMap<>();
+        wide.put("\"k0\"", 0);
+        IntStream.range(1, 3).forEach(i -> wide.put("k" + i, i));
+        Holder holder = new Holder(List.of(Map.entry("k", List.of(1)), Map.entry("v", 2)), wide);
+
+        JsonWeaver weaver = new JsonWeaver(ASTOptions.defaultOptions().withMaxSequenceLength(2));
+        Assertions.assertEquals(
+                "{\"items\":[{\"k\":[1]},{\"v\":2}],\"wide\":{\"k0\":0,\"k1\":1,\"@truncated\":\"1 more\"}}",
+                weaver.weave(holder, dummyContext(weaver)));
+    }
+
+    @Test
+    void testDoesNotWeaveRawLeaves() {
+        JsonWeaver weaver = new JsonWeaver();
+        AtomicInteger woven = new AtomicInteger();
+        WeavingContext ctx = new WeavingContext(
+                Mode.JSON,
+                _ -> null,
+                _ -> (value, c) -> {
+                    if (c.getTraversal() == null) {
+                        return weaver.weave(value, c);
+                    }
+                    woven.incrementAndGet();
+                    return render(value);
+                },
+                true
+        );
+
+        Assertions.assertEquals("{\"text\":\"a\",\"payload\":[1,2.5,true,\"c\"]}",
+                                weaver.weave(new Note("a", List.of(1, 2.5, true, 'c')), ctx));
+        Assertions.assertEquals(0, woven.get());
+    }
+
+    @Test
+    void testWritesSingleUnnamedMember() {
+        StringBuilder sb = new StringBuilder();
+        JsonEmitter emitter = new JsonEmitter(sb);
+
+        emitter.beginSequence(null, null, Map.class, 3);
+        emitter.property("k", null, "1");
+        emitter.property(null, 1, "2 more");
+        emitter.property(null, null, "...");
+        emitter.endSequence();
+
+        Assertions.assertEquals("{\"k\":\"1\",\"@truncated\":\"2 more\"}", sb.toString());
+    }
+
+    @Test
+    void testWrapsRootEntry() {
+        JsonWeaver weaver = new JsonWeaver();
+        Assertions.assertEquals("{\"k\":{\"city\":\"Bonn\",\"zip\":53111}}",
+                                weaver.weave(Map.entry("k", new Address("Bonn", 53111)), dummyContext(weaver)));
+        Assertions.assertEquals("{\"k\":[1]}", weaver.weave(Map.entry("k", List.of(1)), dummyContext(weaver)));
+    }
+
+    @Test
+    void testParallelTraversalMatchesSequential() {
+        List<Object> items = IntStream.range(0, 8)
+                .mapToObj(i -> new Customer("c" + i, i, i % 2 == 0, i / 2.0, new Address("x", i),
+                        List.of("t"), new LinkedHashMap<>(Map.of("n", i)), new int[] {i}, null))
+                .collect(Collectors.toCollection(ArrayList::new));
+
+        for (int maxNodes = 1; maxNodes < 200; maxNodes += 13) {
+            ASTOptions options = ASTOptions.defaultOptions().withMaxNodes(maxNodes);
+            JsonWeaver sequential = new JsonWeaver(options);
+            JsonWeaver parallel = new JsonWeaver(options.withParallel(true));
+
+            Assertions.assertEquals(
+                    sequential.weave(items, dummyContext(sequential)),
+                    parallel.weave(items, dummyContext(parallel)));
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.robinloom.jweaver.lang;
+
+import com.robinloom.jweaver.annotation.WeaveIgnore;
+import com.robinloom.jweaver.annotation.WeaveName;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class ClassPlanTest {
+
+    @SuppressWarnings("unused")
+    static class Account {
+        static final String CONSTANT = "ignored";
+
+        int id;
+        @WeaveName("owner") String holder;
+        @WeaveIgnore String cache;
+        String password;
+        List<String> tags;
+        Object payload;
+    }
+
+    @Test
+    void testPlanIsComputedOnce() {
+        Assertions.assertSame(ClassPlan.of(Account.class), ClassPlan.of(Account.class));
+    }
+
+    @Test
+    void testFieldSelectionAndNames() {
+        List<String> names = ClassPlan.of(Account.class).getFields().stream()
+                                      .map(FieldPlan::getName)
+                                      .toList();
+
+        Assertions.assertEquals(List.of("id", "owner", "password", "tags", "payload"), names);
+    }
+
+    @Test
+    void testSensitivityAndLeafClassification() {
+        List<FieldPlan> fields = ClassPlan.of(Account.class).getFields();
+
+        Assertions.assertTrue(fields.get(0).isLeaf(), "primitive");
+        Assertions.assertTrue(fields.get(1).isLeaf(), "final value type");
+        Assertions.assertTrue(fields.get(2).isSensitive());
+        Assertions.assertFalse(fields.get(3).isLeaf(), "container");
+        Assertions.assertFalse(fields.get(4).isLeaf(), "runtime type unknown");
+    }
+}
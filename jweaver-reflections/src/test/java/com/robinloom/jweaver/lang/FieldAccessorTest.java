@@ -0,0 +1,77 @@
+package com.robinloom.jweaver.lang;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class FieldAccessorTest {
+
+    @SuppressWarnings("unused")
+    static class Measurements {
+        int count = 42;
+        long total = -7L;
+        double ratio = 0.25;
+        float weight = 1.5f;
+        short level = 3;
+        byte flags = 8;
+        boolean active = true;
+        String label = "probe";
+        Integer boxed = 5;
+    }
+
+    private FieldAccessor accessor(String name) throws NoSuchFieldException {
+        return FieldAccessor.of(Measurements.class.getDeclaredField(name));
+    }
+
+    @Test
+    void testNumericFieldsAreFormattedWithoutBoxing() throws Exception {
+        Measurements m = new Measurements();
+
+        Assertions.assertEquals("42", accessor("count").formatNumber(m));
+        Assertions.assertEquals("-7", accessor("total").formatNumber(m));
+        Assertions.assertEquals("0.25", accessor("ratio").formatNumber(m));
+        Assertions.assertEquals("1.5", accessor("weight").formatNumber(m));
+        Assertions.assertEquals("3", accessor("level").formatNumber(m));
+
+        StringBuilder sb = new StringBuilder();
+        accessor("flags").appendNumber(m, sb);
+        Assertions.assertEquals("8", sb.toString());
+    }
+
+    @Test
+    void testBoxedReadKeepsFieldType() throws Exception {
+        Measurements m = new Measurements();
+
+        Assertions.assertEquals((short) 3, accessor("level").get(m));
+        Assertions.assertEquals((byte) 8, accessor("flags").get(m));
+        Assertions.assertEquals(true, accessor("active").get(m));
+        Assertions.assertEquals("probe", accessor("label").get(m));
+    }
+
+    @Test
+    void testNonNumericFieldsUseBoxedPath() throws Exception {
+        Assertions.assertFalse(accessor("active").isPrimitiveNumber());
+        Assertions.assertFalse(accessor("label").isPrimitiveNumber());
+        Assertions.assertFalse(accessor("boxed").isPrimitiveNumber());
+
+        Measurements m = new Measurements();
+        Assertions.assertEquals("5", accessor("boxed").formatNumber(m));
+
+        StringBuilder sb = new StringBuilder();
+        accessor("boxed").appendNumber(m, sb);
+        Assertions.assertEquals("5", sb.toString());
+    }
+
+    @Test
+    void testInaccessibleFieldFailsOnFormat() throws Exception {
+        FieldAccessor accessor = FieldAccessor.of(Thread.class.getDeclaredField("name"));
+
+        Assertions.assertThrows(IllegalStateException.class, () -> accessor.formatNumber(Thread.currentThread()));
+    }
+
+    @Test
+    void testInaccessibleFieldFailsOnRead() throws Exception {
+        FieldAccessor accessor = FieldAccessor.of(Thread.class.getDeclaredField("name"));
+
+        Assertions.assertThrows(IllegalAccessException.class, () -> accessor.get(Thread.currentThread()));
+    }
+}
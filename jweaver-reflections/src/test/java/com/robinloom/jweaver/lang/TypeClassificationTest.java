@@ -0,0 +1,70 @@
+package com.robinloom.jweaver.lang;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+public class TypeClassificationTest {
+
+    record Point(int x, int y) {}
+
+    private static void assertClassification(TypeClassification expected, Class<?> type) {
+        Assertions.assertEquals(expected, ExpansionPolicy.classify(type), type.getName());
+        Assertions.assertEquals(expected.isLeaf(), ExpansionPolicy.shouldNotExpand(type), type.getName());
+    }
+
+    @Test
+    void testScalarsAreValues() {
+        for (Class<?> type : List.of(String.class, Integer.class, int.class, BigDecimal.class,
+                                     UUID.class, LocalDate.class, TimeUnit.class)) {
+            assertClassification(TypeClassification.VALUE, type);
+        }
+        Assertions.assertEquals(TypeClassification.VALUE, ExpansionPolicy.classify(null));
+    }
+
+    @Test
+    void testCollectionsAreContainers() {
+        for (Class<?> type : List.of(ArrayList.class, Set.class, Iterable.class)) {
+            assertClassification(TypeClassification.CONTAINER, type);
+        }
+    }
+
+    @Test
+    void testMapsAndEntriesAreContainers() {
+        for (Class<?> type : List.of(HashMap.class, TreeMap.class, Map.Entry.class, AbstractMap.SimpleEntry.class)) {
+            assertClassification(TypeClassification.CONTAINER, type);
+        }
+    }
+
+    @Test
+    void testArraysAreContainers() {
+        for (Class<?> type : List.of(int[].class, String[].class, Point[][].class)) {
+            assertClassification(TypeClassification.CONTAINER, type);
+        }
+    }
+
+    @Test
+    void testRecordsAreExpanded() {
+        assertClassification(TypeClassification.EXPAND, Point.class);
+    }
+
+    @Test
+    void testOnlyContainersAndExpandedTypesAreTraversed() {
+        for (TypeClassification classification : TypeClassification.values()) {
+            boolean traversed = classification == TypeClassification.CONTAINER
+                    || classification == TypeClassification.EXPAND;
+            Assertions.assertEquals(!traversed, classification.isLeaf(), classification.name());
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.robinloom.jweaver.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class OutputSizeEstimatorTest {
+
+    @Test
+    void testEstimateFollowsRecordedLengths() {
+        OutputSizeEstimator estimator = new OutputSizeEstimator();
+
+        Assertions.assertEquals(0, estimator.estimate(String.class));
+
+        estimator.record(String.class, 800);
+        Assertions.assertEquals(1000, estimator.estimate(String.class));
+        Assertions.assertEquals(0, estimator.estimate(Integer.class), "Estimates are kept per class");
+
+        for (int i = 0; i < 100; i++) {
+            estimator.record(String.class, 80);
+        }
+        int estimate = estimator.estimate(String.class);
+        Assertions.assertTrue(estimate >= 80 && estimate <= 120, "Estimate should converge, was " + estimate);
+    }
+}